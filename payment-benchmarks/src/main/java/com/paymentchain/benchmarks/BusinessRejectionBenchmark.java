@@ -0,0 +1,54 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.exception.BusinessRuleException;
+import com.paymentchain.domain.exception.DomainException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating and catching a business rejection, with and without stack traces.
+ * The call depth mimics a controller, service and domain call chain.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessRejectionBenchmark {
+
+    @Param({"true", "false"})
+    public boolean stackTraces;
+
+    @Param({"32"})
+    public int depth;
+
+    @Setup
+    public void setUp() {
+        DomainException.setStackTraceEnabled(stackTraces);
+    }
+
+    @TearDown
+    public void tearDown() {
+        DomainException.setStackTraceEnabled(true);
+    }
+
+    @Benchmark
+    public String rejectAndCatch() {
+        try {
+            return authorize(depth);
+        } catch (BusinessRuleException e) {
+            return e.getRuleViolated();
+        }
+    }
+
+    private static String authorize(int remaining) {
+        if (remaining == 0) {
+            throw new BusinessRuleException("DAILY_LIMIT", "Daily limit exceeded");
+        }
+        return authorize(remaining - 1);
+    }
+}
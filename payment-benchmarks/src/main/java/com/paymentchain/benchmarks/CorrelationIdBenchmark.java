@@ -0,0 +1,41 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.common.util.CorrelationIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Correlation ID generators, single-threaded and under contention.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CorrelationIdBenchmark {
+
+    @Param({"secure-random", "random", "uuid-v7", "ulid", "node-sequence"})
+    public String generatorName;
+
+    private CorrelationIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = CorrelationIdGenerator.of(generatorName, "bench-1");
+    }
+
+    @Benchmark
+    public String nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String nextIdContended() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,68 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.event.EventIdGenerator;
+import com.paymentchain.events.transaction.TransactionCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainEvent construction: id, timestamp and event type generation, and the
+ * event id generators on their own.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DomainEventBenchmark {
+
+    private final EventIdGenerator uuidV7 = EventIdGenerator.uuidV7();
+    private final EventIdGenerator randomUuid = EventIdGenerator.randomUuid();
+
+    @Benchmark
+    public TransactionCreatedEvent builder() {
+        return SampleEvents.transactionCreated();
+    }
+
+    @Benchmark
+    public TransactionCreatedEvent noArgConstructor() {
+        return new TransactionCreatedEvent();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TransactionCreatedEvent builderContended() {
+        return SampleEvents.transactionCreated();
+    }
+
+    @Benchmark
+    public String builderWithEventId() {
+        return SampleEvents.transactionCreated().getEventId();
+    }
+
+    @Benchmark
+    public String uuidV7Id() {
+        return uuidV7.nextId();
+    }
+
+    @Benchmark
+    public String randomUuidId() {
+        return randomUuid.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidV7IdContended() {
+        return uuidV7.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomUuidIdContended() {
+        return randomUuid.nextId();
+    }
+}
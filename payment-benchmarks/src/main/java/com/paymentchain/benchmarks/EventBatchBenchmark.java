@@ -0,0 +1,61 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.codec.BinaryEventCodec;
+import com.paymentchain.events.codec.EventBatchReader;
+import com.paymentchain.events.codec.EventBatchWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch write and lazy read of transaction events through a reusable buffer.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBatchBenchmark {
+
+    @Param({"1000", "10000"})
+    public int batchSize;
+
+    private final BinaryEventCodec codec = new BinaryEventCodec();
+    private List<DomainEvent> events;
+    private ByteBuffer buffer;
+    private ByteBuffer encodedBatch;
+
+    @Setup
+    public void setUp() {
+        events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(SampleEvents.transactionCreated());
+        }
+        buffer = ByteBuffer.allocateDirect(batchSize * 256);
+        new EventBatchWriter(codec, buffer).writeAll(events);
+        encodedBatch = buffer.duplicate().flip();
+    }
+
+    @Benchmark
+    public int writeBatch() {
+        buffer.clear();
+        new EventBatchWriter(codec, buffer).writeAll(events);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public void readBatch(Blackhole blackhole) {
+        EventBatchReader reader = new EventBatchReader(codec, encodedBatch.duplicate());
+        while (reader.hasNext()) {
+            blackhole.consume(reader.next());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.codec.BinaryEventCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BinaryEventCodec round trips for every event in com.paymentchain.events,
+ * to compare against {@link EventJsonBenchmark}.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBinaryBenchmark {
+
+    @Param({
+            "CustomerCreatedEvent",
+            "CustomerUpdatedEvent",
+            "CustomerDeletedEvent",
+            "NotificationRequestedEvent",
+            "NotificationSentEvent",
+            "PaymentAuthorizedEvent",
+            "PaymentProcessedEvent",
+            "PaymentRejectedEvent",
+            "TransactionCreatedEvent",
+            "TransactionSettledEvent",
+            "TransactionFailedEvent",
+            "TransactionCancelledEvent"
+    })
+    public String eventType;
+
+    private final BinaryEventCodec codec = new BinaryEventCodec();
+    private DomainEvent event;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        event = SampleEvents.all().get(eventType);
+        if (event == null) {
+            throw new IllegalStateException("No sample event for " + eventType);
+        }
+        bytes = codec.encode(event);
+        buffer = ByteBuffer.allocate(1024);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIntoBuffer() {
+        buffer.clear();
+        codec.encode(event, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public DomainEvent decode() {
+        return codec.decode(bytes);
+    }
+}
@@ -0,0 +1,84 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.common.util.JsonCodec;
+import com.paymentchain.common.util.JsonUtils;
+import com.paymentchain.domain.model.event.DomainEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils and typed JsonCodec round trips for every event in com.paymentchain.events.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventJsonBenchmark {
+
+    @Param({
+            "CustomerCreatedEvent",
+            "CustomerUpdatedEvent",
+            "CustomerDeletedEvent",
+            "NotificationRequestedEvent",
+            "NotificationSentEvent",
+            "PaymentAuthorizedEvent",
+            "PaymentProcessedEvent",
+            "PaymentRejectedEvent",
+            "TransactionCreatedEvent",
+            "TransactionSettledEvent",
+            "TransactionFailedEvent",
+            "TransactionCancelledEvent"
+    })
+    public String eventType;
+
+    private DomainEvent event;
+    private Class<? extends DomainEvent> eventClass;
+    private String json;
+    private JsonCodec<DomainEvent> codec;
+
+    @Setup
+    public void setUp() {
+        event = SampleEvents.all().get(eventType);
+        if (event == null) {
+            throw new IllegalStateException("No sample event for " + eventType);
+        }
+        eventClass = event.getClass();
+        json = JsonUtils.toJson(event);
+        codec = typedCodec(eventClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonCodec<DomainEvent> typedCodec(Class<? extends DomainEvent> type) {
+        return (JsonCodec<DomainEvent>) JsonUtils.codec(type);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(event);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return JsonUtils.toJsonBytes(event);
+    }
+
+    @Benchmark
+    public DomainEvent fromJson() {
+        return JsonUtils.fromJson(json, eventClass);
+    }
+
+    @Benchmark
+    public byte[] codecToJsonBytes() {
+        return codec.toJsonBytes(event);
+    }
+
+    @Benchmark
+    public DomainEvent codecFromJson() {
+        return codec.fromJson(json);
+    }
+}
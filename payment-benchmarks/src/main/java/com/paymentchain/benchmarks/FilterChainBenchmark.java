@@ -0,0 +1,92 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.common.filter.CorrelationIdFilter;
+import com.paymentchain.common.filter.LoggingFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CorrelationIdFilter -> LoggingFilter -> servlet chain with mock servlet objects.
+ *
+ * The benchmark logback.xml sends the filters' DEBUG output to a no-op appender,
+ * so the numbers cover body capture, message building and the sampled body logs,
+ * but not console I/O.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterChainBenchmark {
+
+    private static final byte[] BODY =
+            "{\"success\":true,\"data\":{\"transactionId\":1,\"reference\":\"TX001\"}}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"true", "false"})
+    public boolean withCorrelationHeader;
+
+    /**
+     * Response body size in bytes; the large size stands in for a file export.
+     */
+    @Param({"64", "1048576"})
+    public int bodySize;
+
+    /**
+     * Share of responses whose captured body is logged; every response is captured.
+     */
+    @Param({"0.1", "1.0"})
+    public double sampleRate;
+
+    private byte[] body;
+
+    private Filter correlationIdFilter;
+    private Filter loggingFilter;
+    private HttpServlet servlet;
+
+    @Setup
+    public void setUp() {
+        body = new byte[bodySize];
+        for (int i = 0; i < bodySize; i++) {
+            body[i] = BODY[i % BODY.length];
+        }
+        correlationIdFilter = new CorrelationIdFilter();
+        loggingFilter = new LoggingFilter(sampleRate, 1000, List.of());
+        servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.setStatus(200);
+                response.setContentType("application/json");
+                response.getOutputStream().write(body);
+            }
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterChain() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions/1");
+        request.setQueryString("expand=true");
+        if (withCorrelationHeader) {
+            request.addHeader("X-Correlation-Id", "3f1c9c2e-6d0a-4c53-9d8e-2f0b1a7c4e55");
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain(servlet, correlationIdFilter, loggingFilter);
+        chain.doFilter(request, response);
+        return response;
+    }
+}
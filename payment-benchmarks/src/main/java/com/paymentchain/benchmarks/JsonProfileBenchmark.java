@@ -0,0 +1,63 @@
+package com.paymentchain.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.paymentchain.common.config.JacksonConfig;
+import com.paymentchain.common.config.JsonProfile;
+import com.paymentchain.domain.model.event.DomainEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time and payload size of the COMPACT and DEBUG JacksonConfig
+ * profiles, with and without the Blackbird module.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonProfileBenchmark {
+
+    @Param({"COMPACT", "DEBUG"})
+    public JsonProfile profile;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectWriter writer;
+    private DomainEvent event;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JacksonConfig.createObjectMapper(profile, blackbird);
+        event = SampleEvents.transactionCreated();
+        writer = mapper.writerFor(event.getClass());
+    }
+
+    /**
+     * Bytes written per operation, reported next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PayloadSize {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) throws JsonProcessingException {
+        byte[] json = writer.writeValueAsBytes(event);
+        size.bytes += json.length;
+        return json;
+    }
+}
@@ -0,0 +1,90 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.valueobject.Currency;
+import com.paymentchain.domain.model.valueobject.FastMoney;
+import com.paymentchain.domain.model.valueobject.Money;
+import com.paymentchain.domain.model.valueobject.MoneyAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money arithmetic: BigDecimal-backed Money against FastMoney and MoneyAccumulator.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final int LEDGER_SIZE = 1_000;
+
+    private Money left;
+    private Money right;
+    private FastMoney fastLeft;
+    private FastMoney fastRight;
+    private Money[] ledger;
+
+    @Setup
+    public void setUp() {
+        left = Money.of(new BigDecimal("1500.75"), Currency.EUR);
+        right = Money.of(new BigDecimal("249.25"), Currency.EUR);
+        fastLeft = FastMoney.from(left);
+        fastRight = FastMoney.from(right);
+
+        ledger = new Money[LEDGER_SIZE];
+        for (int i = 0; i < LEDGER_SIZE; i++) {
+            ledger[i] = Money.of(BigDecimal.valueOf(i * 137L + 1, 2), Currency.EUR);
+        }
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return left.add(right);
+    }
+
+    @Benchmark
+    public Money moneySubtract() {
+        return left.subtract(right);
+    }
+
+    @Benchmark
+    public boolean moneyIsGreaterThan() {
+        return left.isGreaterThan(right);
+    }
+
+    @Benchmark
+    public FastMoney fastMoneyAdd() {
+        return fastLeft.add(fastRight);
+    }
+
+    @Benchmark
+    public FastMoney fastMoneySubtract() {
+        return fastLeft.subtract(fastRight);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEDGER_SIZE)
+    public Money ledgerSumWithMoneyAdd() {
+        Money total = Money.zero(Currency.EUR);
+        for (Money amount : ledger) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEDGER_SIZE)
+    public Money ledgerSumWithAccumulator() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+        for (Money amount : ledger) {
+            accumulator.add(amount);
+        }
+        return accumulator.total(Currency.EUR);
+    }
+}
@@ -0,0 +1,113 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.customer.CustomerCreatedEvent;
+import com.paymentchain.events.customer.CustomerDeletedEvent;
+import com.paymentchain.events.customer.CustomerUpdatedEvent;
+import com.paymentchain.events.notification.NotificationRequestedEvent;
+import com.paymentchain.events.notification.NotificationSentEvent;
+import com.paymentchain.events.payment.PaymentAuthorizedEvent;
+import com.paymentchain.events.payment.PaymentProcessedEvent;
+import com.paymentchain.events.payment.PaymentRejectedEvent;
+import com.paymentchain.events.transaction.TransactionCancelledEvent;
+import com.paymentchain.events.transaction.TransactionCreatedEvent;
+import com.paymentchain.events.transaction.TransactionFailedEvent;
+import com.paymentchain.events.transaction.TransactionSettledEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Representative, fully populated instances of every event in com.paymentchain.events.
+ *
+ * @author benas
+ */
+public final class SampleEvents {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 11, 18, 10, 30);
+    private static final String IBAN = "ES9121000418450200051332";
+
+    private SampleEvents() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * All sample events keyed by simple class name, in a stable order.
+     */
+    public static Map<String, DomainEvent> all() {
+        Map<String, DomainEvent> events = new LinkedHashMap<>();
+        put(events, customerCreated());
+        put(events, CustomerUpdatedEvent.builder()
+                .customerId(1L).name("Jane").surname("Doe")
+                .email("jane.doe@example.com").phone("+34600654321")
+                .build());
+        put(events, CustomerDeletedEvent.builder()
+                .customerId(1L).deletedBy("admin").reason("Customer request")
+                .build());
+        put(events, NotificationRequestedEvent.builder()
+                .recipient("john.doe@example.com").notificationType("EMAIL")
+                .subject("Transaction Confirmation").message("Your transaction TX001 was successful")
+                .template("transaction-confirmation").priority("HIGH")
+                .build());
+        put(events, NotificationSentEvent.builder()
+                .notificationId("NOTIF-001").recipient("john.doe@example.com").notificationType("EMAIL")
+                .success(true).provider("SendGrid").sentAt(DATE)
+                .build());
+        put(events, PaymentAuthorizedEvent.builder()
+                .paymentId(1L).authorizationCode("AUTH-123456").authorizedAmount(new BigDecimal("100.50"))
+                .currency("EUR").authorizedAt(DATE).gateway("STRIPE")
+                .build());
+        put(events, PaymentProcessedEvent.builder()
+                .paymentId(1L).paymentReference("PAY-001").amount(new BigDecimal("100.50"))
+                .currency("EUR").paymentMethod("CARD").status("PROCESSED")
+                .build());
+        put(events, PaymentRejectedEvent.builder()
+                .paymentId(1L).paymentReference("PAY-001").amount(new BigDecimal("100.50"))
+                .currency("EUR").rejectionReason("Insufficient funds").rejectionCode("51").gateway("STRIPE")
+                .build());
+        put(events, transactionCreated());
+        put(events, TransactionSettledEvent.builder()
+                .transactionId(1L).reference("TX001").amount(new BigDecimal("100.50"))
+                .currency("EUR").settledAt(DATE).settlementMethod("SEPA")
+                .build());
+        put(events, TransactionFailedEvent.builder()
+                .transactionId(1L).reference("TX001").amount(new BigDecimal("100.50"))
+                .failureReason("Account blocked").errorCode("TX-403")
+                .build());
+        put(events, TransactionCancelledEvent.builder()
+                .transactionId(1L).reference("TX001").cancelledBy("john.doe").cancellationReason("Duplicate")
+                .build());
+        return events;
+    }
+
+    public static TransactionCreatedEvent transactionCreated() {
+        return TransactionCreatedEvent.builder()
+                .transactionId(1L)
+                .reference("TX001")
+                .accountIban(IBAN)
+                .amount(new BigDecimal("100.50"))
+                .currency("EUR")
+                .status("PENDING")
+                .channel("WEB")
+                .description("Test transaction")
+                .transactionDate(DATE)
+                .build();
+    }
+
+    public static CustomerCreatedEvent customerCreated() {
+        return CustomerCreatedEvent.builder()
+                .customerId(1L)
+                .name("John")
+                .surname("Doe")
+                .email("john.doe@example.com")
+                .phone("+34600123456")
+                .iban(IBAN)
+                .build();
+    }
+
+    private static void put(Map<String, DomainEvent> events, DomainEvent event) {
+        events.put(event.getClass().getSimpleName(), event);
+    }
+}
@@ -0,0 +1,63 @@
+package com.paymentchain.benchmarks;
+
+import com.paymentchain.domain.model.valueobject.Email;
+import com.paymentchain.domain.model.valueobject.IBAN;
+import com.paymentchain.domain.model.valueobject.IbanCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation cost of the IBAN and Email value object factories, and of an IBAN cache hit.
+ *
+ * @author benas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueObjectValidationBenchmark {
+
+    private String compactIban;
+    private String formattedIban;
+    private String lowerCaseEmail;
+    private String mixedCaseEmail;
+    private IbanCache ibanCache;
+
+    @Setup
+    public void setUp() {
+        compactIban = "ES9121000418450200051332";
+        formattedIban = "es91 2100 0418 4502 0005 1332";
+        lowerCaseEmail = "john.doe@example.com";
+        mixedCaseEmail = "John.Doe@Example.COM";
+        ibanCache = new IbanCache();
+        ibanCache.get(formattedIban);
+    }
+
+    @Benchmark
+    public IBAN ibanCompact() {
+        return IBAN.of(compactIban);
+    }
+
+    @Benchmark
+    public IBAN ibanFormatted() {
+        return IBAN.of(formattedIban);
+    }
+
+    @Benchmark
+    public IBAN ibanCached() {
+        return ibanCache.get(formattedIban);
+    }
+
+    @Benchmark
+    public Email emailLowerCase() {
+        return Email.of(lowerCaseEmail);
+    }
+
+    @Benchmark
+    public Email emailMixedCase() {
+        return Email.of(mixedCaseEmail);
+    }
+}
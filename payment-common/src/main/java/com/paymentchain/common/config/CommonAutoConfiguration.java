@@ -1,13 +1,43 @@
 package com.paymentchain.common.config;
 
+import com.paymentchain.common.exception.GlobalExceptionHandler;
+import com.paymentchain.common.logging.AccessLogPipeline;
+import com.paymentchain.common.logging.RateLimitedLogger;
+import com.paymentchain.common.metrics.ErrorRecorder;
+import com.paymentchain.common.metrics.InMemoryErrorRecorder;
+import com.paymentchain.common.metrics.InMemoryLatencyRecorder;
+import com.paymentchain.common.metrics.LatencyRecorder;
+import com.paymentchain.common.metrics.MicrometerErrorRecorder;
+import com.paymentchain.common.metrics.MicrometerLatencyRecorder;
+import com.paymentchain.common.util.CursorCodec;
+import com.paymentchain.domain.exception.DomainException;
+import com.paymentchain.domain.model.event.EventIdGenerator;
+import com.paymentchain.domain.model.event.EventIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Auto-configuration for payment-common module.
  * This enables component scanning for common components when the module is included.
+ * Servlet filters are registered in servlet applications and their
+ * {@code filter.reactive} WebFilter counterparts in reactive ones.
  *
  * @author benas
  */
@@ -17,12 +47,177 @@ import org.springframework.context.annotation.Configuration;
         "com.paymentchain.common.filter",
         "com.paymentchain.common.config"
 })
-public class CommonAutoConfiguration {
+public class CommonAutoConfiguration implements DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(CommonAutoConfiguration.class);
 
-    public CommonAutoConfiguration() {
+    private final boolean previousStackTraces;
+    private final boolean overridesStackTraces;
+
+    public CommonAutoConfiguration(
+            @Value("${payment-common.exceptions.stack-traces:true}") boolean exceptionStackTraces) {
+        // Expected errors (domain, business rule, not found, invalid request) skip fillInStackTrace when disabled.
+        // The switch is JVM-wide, so it is only changed when the setting differs and restored on close.
+        previousStackTraces = DomainException.isStackTraceEnabled();
+        overridesStackTraces = exceptionStackTraces != previousStackTraces;
+        if (overridesStackTraces) {
+            DomainException.setStackTraceEnabled(exceptionStackTraces);
+        }
         logger.info("Payment Common Auto-Configuration initialized");
-        logger.info("Enabled components: GlobalExceptionHandler, CorrelationIdFilter, LoggingFilter");
+        logger.info("Enabled components: GlobalExceptionHandler, CorrelationIdFilter, LoggingFilter"
+                + " (ReactiveCorrelationIdFilter, ReactiveLoggingFilter on WebFlux)");
+    }
+
+    /**
+     * Restore the stack trace setting this context changed.
+     */
+    @Override
+    public void destroy() {
+        if (overridesStackTraces) {
+            DomainException.setStackTraceEnabled(previousStackTraces);
+        }
+    }
+
+    /**
+     * Pre-build JSON serializers for events and DTOs at startup.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "payment-common.jackson.warmup", name = "enabled", matchIfMissing = true)
+    public JsonWarmup jsonWarmup(
+            @Value("${payment-common.jackson.warmup.packages:com.paymentchain.events,com.paymentchain.common.dto}")
+            List<String> packages,
+            @Value("${payment-common.jackson.warmup.budget:2s}") Duration budget) {
+        return new JsonWarmup(packages, budget);
+    }
+
+    /**
+     * Asynchronous JSON-lines access log, written to the "access-log" logger.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "payment-common.logging.access-log", name = "enabled", havingValue = "true")
+    public AccessLogPipeline accessLogPipeline(
+            @Value("${payment-common.logging.access-log.capacity:8192}") int capacity) {
+        Logger accessLogger = LoggerFactory.getLogger("access-log");
+        return new AccessLogPipeline(capacity, accessLogger::info).start();
+    }
+
+    /**
+     * Per exception type rate limit for GlobalExceptionHandler log output, with periodic
+     * summaries of suppressed messages.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "payment-common.logging.rate-limit", name = "enabled", matchIfMissing = true)
+    public RateLimitedLogger rateLimitedLogger(
+            @Value("${payment-common.logging.rate-limit.permits-per-second:5}") double permitsPerSecond,
+            @Value("${payment-common.logging.rate-limit.burst:20}") int burst,
+            @Value("${payment-common.logging.rate-limit.summary-interval:10s}") Duration summaryInterval) {
+        Logger handlerLogger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        return new RateLimitedLogger(handlerLogger, permitsPerSecond, burst).start(summaryInterval);
+    }
+
+    /**
+     * In-memory counters of handled exceptions, used when Micrometer is not on the classpath.
+     */
+    @Bean
+    @ConditionalOnMissingClass("io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "payment-common.metrics.errors", name = "enabled", matchIfMissing = true)
+    public ErrorRecorder errorRecorder() {
+        return new InMemoryErrorRecorder();
+    }
+
+    /**
+     * Signs keyset pagination cursors. Created on first use and fails fast without a
+     * configured secret, unless a random per-instance key is explicitly allowed; such
+     * tokens do not survive restarts or work across instances.
+     */
+    @Bean
+    @Lazy
+    public CursorCodec cursorCodec(
+            @Value("${payment-common.pagination.cursor-secret:}") String secret,
+            @Value("${payment-common.pagination.ephemeral-cursor-secret:false}") boolean allowEphemeralSecret) {
+        if (!secret.isBlank()) {
+            return new CursorCodec(secret.getBytes(StandardCharsets.UTF_8));
+        }
+        if (!allowEphemeralSecret) {
+            throw new IllegalStateException("No payment-common.pagination.cursor-secret configured; set a shared"
+                    + " secret of at least 16 bytes, or payment-common.pagination.ephemeral-cursor-secret=true"
+                    + " to use a random per-instance key");
+        }
+        logger.warn("No payment-common.pagination.cursor-secret configured, using a random per-instance key");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return new CursorCodec(key);
+    }
+
+    /**
+     * Clock and id generator for domain events; pass it to the event builders.
+     */
+    @Bean
+    public EventIdentity eventIdentity(@Value("${payment-common.events.id-generator:uuid-v7}") String generator) {
+        return EventIdentity.of(Clock.systemUTC(), EventIdGenerator.of(generator));
+    }
+
+    /**
+     * In-memory request latency histograms, used when Micrometer is not on the classpath.
+     */
+    @Bean
+    @ConditionalOnMissingClass("io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "payment-common.metrics.latency", name = "enabled", matchIfMissing = true)
+    public LatencyRecorder latencyRecorder() {
+        return new InMemoryLatencyRecorder();
+    }
+
+    /**
+     * Request latency published to the MeterRegistry when there is one, in-memory otherwise.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "payment-common.metrics.latency", name = "enabled", matchIfMissing = true)
+    static class MicrometerLatencyConfiguration {
+
+        @Bean
+        public LatencyRecorder latencyRecorder(ObjectProvider<MeterRegistry> meterRegistry) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                logger.info("No MeterRegistry available, keeping request latency in memory");
+                return new InMemoryLatencyRecorder();
+            }
+            return new MicrometerLatencyRecorder(registry);
+        }
+    }
+
+    /**
+     * JSON warm-up count and duration published to the MeterRegistry when there is one.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "payment-common.jackson.warmup", name = "enabled", matchIfMissing = true)
+    static class MicrometerJsonWarmupConfiguration {
+
+        @Bean
+        public JsonWarmupMetrics jsonWarmupMetrics(JsonWarmup jsonWarmup, ObjectProvider<MeterRegistry> meterRegistry) {
+            JsonWarmupMetrics metrics = new JsonWarmupMetrics(jsonWarmup);
+            meterRegistry.ifAvailable(metrics::bindTo);
+            return metrics;
+        }
+    }
+
+    /**
+     * Handled exception counts published to the MeterRegistry when there is one, in-memory otherwise.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "payment-common.metrics.errors", name = "enabled", matchIfMissing = true)
+    static class MicrometerErrorConfiguration {
+
+        @Bean
+        public ErrorRecorder errorRecorder(ObjectProvider<MeterRegistry> meterRegistry) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                logger.info("No MeterRegistry available, counting handled exceptions in memory");
+                return new InMemoryErrorRecorder();
+            }
+            return new MicrometerErrorRecorder(registry);
+        }
     }
 }
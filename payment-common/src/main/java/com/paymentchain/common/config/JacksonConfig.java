@@ -1,19 +1,31 @@
 package com.paymentchain.common.config;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.paymentchain.common.util.JsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.util.ClassUtils;
 
 /**
  * Jackson ObjectMapper configuration.
  * Configures JSON serialization/deserialization settings.
  *
+ * The output profile is set with {@code payment-common.jackson.profile}
+ * (COMPACT by default, DEBUG for pretty printing). Blackbird accessor
+ * generation is used when {@code payment-common.jackson.blackbird} is enabled
+ * and jackson-module-blackbird is on the classpath. The bean is also bound
+ * to {@link JsonUtils}, so the application has a single serializer cache.
+ *
  * @author benas
  */
 @Configuration
@@ -21,14 +33,34 @@ public class JacksonConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(JacksonConfig.class);
 
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    @Value("${payment-common.jackson.profile:COMPACT}")
+    private JsonProfile profile;
+
+    @Value("${payment-common.jackson.blackbird:false}")
+    private boolean blackbird;
+
     /**
      * Configure the default ObjectMapper bean.
      */
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        logger.info("Configuring Jackson ObjectMapper");
+        logger.info("Configuring Jackson ObjectMapper with {} profile", profile);
+        ObjectMapper mapper = createObjectMapper(profile, blackbird);
+        JsonUtils.bind(mapper);
+        return mapper;
+    }
 
+    /**
+     * Create an ObjectMapper with the shared settings, outside of Spring.
+     *
+     * @param profile   Output profile
+     * @param blackbird Whether to register the Blackbird module if available
+     * @return Configured ObjectMapper
+     */
+    public static ObjectMapper createObjectMapper(JsonProfile profile, boolean blackbird) {
         ObjectMapper mapper = new ObjectMapper();
 
         // Register Java 8 date/time module
@@ -37,17 +69,31 @@ public class JacksonConfig {
         // Disable writing dates as timestamps (use ISO-8601 format)
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-        // Pretty print for development (can be disabled in production)
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        // Pretty print only in the debug profile
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, profile == JsonProfile.DEBUG);
 
         // Ignore unknown properties during deserialization
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
         // Include non-null values only
-        mapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        if (blackbird) {
+            registerBlackbird(mapper);
+        }
 
-        logger.debug("ObjectMapper configured with JavaTimeModule and custom settings");
+        logger.debug("ObjectMapper configured with JavaTimeModule and {} profile", profile);
 
         return mapper;
     }
+
+    private static void registerBlackbird(ObjectMapper mapper) {
+        if (!ClassUtils.isPresent(BLACKBIRD_MODULE, JacksonConfig.class.getClassLoader())) {
+            logger.warn("Blackbird requested but jackson-module-blackbird is not on the classpath");
+            return;
+        }
+        Class<?> moduleClass = ClassUtils.resolveClassName(BLACKBIRD_MODULE, JacksonConfig.class.getClassLoader());
+        mapper.registerModule((Module) BeanUtils.instantiateClass(moduleClass));
+        logger.debug("Blackbird module registered");
+    }
 }
@@ -0,0 +1,15 @@
+package com.paymentchain.common.config;
+
+/**
+ * JSON output profiles for the shared ObjectMapper.
+ *
+ * @author benas
+ */
+public enum JsonProfile {
+
+    /** Production default: single-line output, no whitespace. */
+    COMPACT,
+
+    /** Development: pretty-printed output. */
+    DEBUG
+}
@@ -0,0 +1,158 @@
+package com.paymentchain.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paymentchain.common.util.JsonCodec;
+import com.paymentchain.common.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pre-builds JSON serializers and deserializers at startup, so the first
+ * requests after a deploy do not pay Jackson introspection.
+ *
+ * Scans the configured packages for concrete classes with JSON properties,
+ * registers a {@link JsonCodec} for each and runs one serialize/deserialize
+ * round trip on a default instance. Stops once the time budget, which also
+ * covers the scan, is spent. The outcome is published as meters by
+ * {@link JsonWarmupMetrics} when Micrometer is available.
+ * Runs after all singletons are created, so the application ObjectMapper is
+ * already bound to {@link JsonUtils}.
+ *
+ * @author benas
+ */
+public class JsonWarmup implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonWarmup.class);
+
+    private final List<String> basePackages;
+    private final Duration budget;
+
+    private volatile int warmedTypeCount;
+    private volatile long durationMillis = -1;
+
+    public JsonWarmup(List<String> basePackages, Duration budget) {
+        this.basePackages = List.copyOf(basePackages);
+        this.budget = budget;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        warmUp();
+    }
+
+    /**
+     * Warm up all types found in the configured packages.
+     *
+     * @return Number of types warmed up
+     */
+    public int warmUp() {
+        long start = System.nanoTime();
+        // The budget covers the classpath scan as well as the round trips
+        long deadline = start + budget.toNanos();
+
+        Set<Class<?>> types = findTypes(deadline);
+        int warmed = 0;
+        for (Class<?> type : types) {
+            if (System.nanoTime() - deadline > 0) {
+                logger.warn("JSON warm-up budget of {} ms exhausted after {} of {} types",
+                        budget.toMillis(), warmed, types.size());
+                break;
+            }
+            warmUp(type);
+            warmed++;
+        }
+
+        warmedTypeCount = warmed;
+        durationMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("JSON warm-up completed: {} types in {} ms", warmed, durationMillis);
+        return warmed;
+    }
+
+    /**
+     * Number of types warmed up by the last run.
+     */
+    public int getWarmedTypeCount() {
+        return warmedTypeCount;
+    }
+
+    /**
+     * Duration of the last run in milliseconds, or -1 if it has not run yet.
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    private Set<Class<?>> findTypes(long deadline) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> reader.getClassMetadata().isConcrete());
+
+        ClassLoader classLoader = JsonWarmup.class.getClassLoader();
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            if (System.nanoTime() - deadline > 0) {
+                logger.debug("JSON warm-up budget exhausted before scanning {}", basePackage);
+                break;
+            }
+            List<String> classNames = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                classNames.add(candidate.getBeanClassName());
+            }
+            if (classNames.isEmpty()) {
+                logger.debug("No classes found for JSON warm-up in {}", basePackage);
+            }
+            for (String className : classNames) {
+                if (System.nanoTime() - deadline > 0) {
+                    break;
+                }
+                try {
+                    Class<?> type = ClassUtils.forName(className, classLoader);
+                    if (hasJsonProperties(type)) {
+                        types.add(type);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    logger.debug("Skipping {} during JSON warm-up: {}", className, e.getMessage());
+                }
+            }
+        }
+        return types;
+    }
+
+    private static boolean hasJsonProperties(Class<?> type) {
+        // Skips exceptions and helpers (codecs, utility classes) that share a package with payload types
+        if (Throwable.class.isAssignableFrom(type)) {
+            return false;
+        }
+        ObjectMapper mapper = JsonUtils.getObjectMapper();
+        return !mapper.getSerializationConfig()
+                .introspect(mapper.constructType(type))
+                .findProperties()
+                .isEmpty();
+    }
+
+    private static void warmUp(Class<?> type) {
+        JsonCodec<?> codec = JsonUtils.codec(type);
+        if (ClassUtils.getConstructorIfAvailable(type) == null) {
+            return;
+        }
+        try {
+            Object instance = BeanUtils.instantiateClass(type);
+            // Reader and writer used directly, so failures here are not logged as errors
+            codec.getReader().readValue(codec.getWriter().writeValueAsBytes(instance));
+        } catch (IOException | RuntimeException e) {
+            // Codecs stay registered; types that cannot round trip a default instance are only resolved
+            logger.debug("JSON warm-up round trip failed for {}: {}", type.getName(), e.getMessage());
+        }
+    }
+}
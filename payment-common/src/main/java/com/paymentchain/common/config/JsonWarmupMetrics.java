@@ -0,0 +1,42 @@
+package com.paymentchain.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the outcome of the {@link JsonWarmup} as the {@code json.warmup.types}
+ * and {@code json.warmup.duration} gauges. Both read the last run, so they can be
+ * bound before the warm-up has happened; the duration is NaN until then.
+ *
+ * @author benas
+ */
+public class JsonWarmupMetrics implements MeterBinder {
+
+    static final String TYPES_METER_NAME = "json.warmup.types";
+    static final String DURATION_METER_NAME = "json.warmup.duration";
+
+    private final JsonWarmup jsonWarmup;
+
+    public JsonWarmupMetrics(JsonWarmup jsonWarmup) {
+        this.jsonWarmup = jsonWarmup;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(TYPES_METER_NAME, jsonWarmup, JsonWarmup::getWarmedTypeCount)
+                .description("Types whose JSON codecs were pre-built at startup")
+                .register(registry);
+        TimeGauge.builder(DURATION_METER_NAME, jsonWarmup, TimeUnit.MILLISECONDS, JsonWarmupMetrics::durationMillis)
+                .description("Time spent pre-building JSON codecs at startup")
+                .register(registry);
+    }
+
+    private static double durationMillis(JsonWarmup jsonWarmup) {
+        long durationMillis = jsonWarmup.getDurationMillis();
+        return durationMillis < 0 ? Double.NaN : durationMillis;
+    }
+}
@@ -1,18 +1,24 @@
 package com.paymentchain.common.config;
 
+import com.paymentchain.common.web.NdjsonHttpMessageConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC configuration for common web settings.
- * Configures CORS and other web-related settings.
+ * Configures CORS, NDJSON streaming and other web-related settings.
  *
  * @author benas
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(WebMvcConfig.class);
@@ -31,4 +37,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
         logger.debug("CORS configured for /api/** endpoints");
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new NdjsonHttpMessageConverter());
+    }
 }
@@ -0,0 +1,169 @@
+package com.paymentchain.common.context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Carries the current {@link CorrelationContext} into work that runs on other
+ * threads: executors, {@code CompletableFuture} stages and virtual threads.
+ *
+ * The context is captured when a task is wrapped or submitted and made current
+ * around its execution, then the worker thread's previous context is
+ * restored. Tasks submitted without context are passed through unwrapped.
+ *
+ * @author benas
+ */
+public final class ContextPropagation {
+
+    private ContextPropagation() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Wrap a task so it runs with the current context.
+     */
+    public static Runnable wrap(Runnable task) {
+        CorrelationContext context = CorrelationContext.capture();
+        if (context.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = context.makeCurrent()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Wrap a task so it runs with the current context.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        CorrelationContext context = CorrelationContext.capture();
+        if (context.isEmpty()) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = context.makeCurrent()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * Wrap a supplier (e.g. for {@code CompletableFuture.supplyAsync}) so it runs with the current context.
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        CorrelationContext context = CorrelationContext.capture();
+        if (context.isEmpty()) {
+            return supplier;
+        }
+        return () -> {
+            try (Scope ignored = context.makeCurrent()) {
+                return supplier.get();
+            }
+        };
+    }
+
+    /**
+     * Executor that propagates the submitter's context to every task.
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * Executor service that propagates the submitter's context to every task.
+     */
+    public static ExecutorService wrap(ExecutorService executor) {
+        return new ContextPropagatingExecutorService(executor);
+    }
+
+    private static final class ContextPropagatingExecutorService implements ExecutorService {
+
+        private final ExecutorService delegate;
+
+        ContextPropagatingExecutorService(ExecutorService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(wrap(command));
+        }
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> Future<T> submit(Runnable task, T result) {
+            return delegate.submit(wrap(task), result);
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            return delegate.submit(wrap(task));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+                throws InterruptedException {
+            return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+                throws InterruptedException, ExecutionException {
+            return delegate.invokeAny(wrapAll(tasks));
+        }
+
+        @Override
+        public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+        private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+            return tasks.stream().map(task -> ContextPropagation.<T>wrap(task)).toList();
+        }
+    }
+}
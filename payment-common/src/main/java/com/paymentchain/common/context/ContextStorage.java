@@ -0,0 +1,31 @@
+package com.paymentchain.common.context;
+
+/**
+ * Where the current {@link CorrelationContext} is kept.
+ *
+ * The default keeps it in a ThreadLocal. The attach/scope shape matches
+ * {@code ScopedValue} bindings, so a ScopedValue-backed storage can be
+ * plugged in through {@link CorrelationContext#setStorage(ContextStorage)}
+ * without changing callers.
+ *
+ * @author benas
+ */
+public interface ContextStorage {
+
+    /**
+     * The current context, or {@link CorrelationContext#EMPTY}.
+     */
+    CorrelationContext current();
+
+    /**
+     * Make the context current until the returned scope is closed.
+     */
+    Scope attach(CorrelationContext context);
+
+    /**
+     * ThreadLocal-backed storage that mirrors the correlation ID into the SLF4J MDC.
+     */
+    static ContextStorage threadLocal() {
+        return ThreadLocalContextStorage.INSTANCE;
+    }
+}
@@ -0,0 +1,114 @@
+package com.paymentchain.common.context;
+
+import com.paymentchain.common.util.CorrelationIdUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable per-request context: the correlation ID plus optional request
+ * attributes (e.g. tenant or caller).
+ *
+ * The current context lives in a {@link ContextStorage}. Making a context
+ * current also puts its correlation ID into the SLF4J MDC, so log lines and
+ * {@link CorrelationIdUtils#getCorrelationId()} see it. Use
+ * {@link ContextPropagation} to carry it across threads.
+ *
+ * @author benas
+ */
+public final class CorrelationContext {
+
+    /** Context without correlation ID or attributes. */
+    public static final CorrelationContext EMPTY = new CorrelationContext(null, Map.of());
+
+    private static volatile ContextStorage storage = ContextStorage.threadLocal();
+
+    private final String correlationId;
+    private final Map<String, String> attributes;
+
+    private CorrelationContext(String correlationId, Map<String, String> attributes) {
+        this.correlationId = correlationId;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Create a context with the given correlation ID and no attributes.
+     */
+    public static CorrelationContext of(String correlationId) {
+        return new CorrelationContext(correlationId, Map.of());
+    }
+
+    /**
+     * The context of the current thread, or {@link #EMPTY}.
+     */
+    public static CorrelationContext current() {
+        return storage.current();
+    }
+
+    /**
+     * Capture the current context for use on another thread. Falls back to the
+     * MDC correlation ID when it was set directly through {@link CorrelationIdUtils}.
+     */
+    public static CorrelationContext capture() {
+        CorrelationContext current = storage.current();
+        if (current.correlationId == null) {
+            String mdcCorrelationId = CorrelationIdUtils.getCorrelationId();
+            if (mdcCorrelationId != null) {
+                return new CorrelationContext(mdcCorrelationId, current.attributes);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Replace the storage, e.g. with one backed by ScopedValue on newer JDKs.
+     */
+    public static void setStorage(ContextStorage contextStorage) {
+        if (contextStorage == null) {
+            throw new IllegalArgumentException("Context storage cannot be null");
+        }
+        storage = contextStorage;
+    }
+
+    public static ContextStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Make this context current until the returned scope is closed.
+     */
+    public Scope makeCurrent() {
+        return storage.attach(this);
+    }
+
+    /**
+     * Copy of this context with one more attribute.
+     */
+    public CorrelationContext with(String key, String value) {
+        Map<String, String> copy = new HashMap<>(attributes);
+        copy.put(key, value);
+        return new CorrelationContext(correlationId, Collections.unmodifiableMap(copy));
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public boolean isEmpty() {
+        return correlationId == null && attributes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "CorrelationContext{correlationId=" + correlationId + ", attributes=" + attributes + "}";
+    }
+}
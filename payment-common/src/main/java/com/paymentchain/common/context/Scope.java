@@ -0,0 +1,13 @@
+package com.paymentchain.common.context;
+
+/**
+ * Restores the previous context when closed. Use with try-with-resources.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+}
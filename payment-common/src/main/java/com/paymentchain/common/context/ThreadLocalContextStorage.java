@@ -0,0 +1,53 @@
+package com.paymentchain.common.context;
+
+import com.paymentchain.common.util.CorrelationIdUtils;
+
+/**
+ * Default {@link ContextStorage}: one ThreadLocal slot, with the correlation
+ * ID mirrored into the SLF4J MDC.
+ *
+ * @author benas
+ */
+final class ThreadLocalContextStorage implements ContextStorage {
+
+    static final ThreadLocalContextStorage INSTANCE = new ThreadLocalContextStorage();
+
+    private static final ThreadLocal<CorrelationContext> CURRENT = new ThreadLocal<>();
+
+    private ThreadLocalContextStorage() {
+    }
+
+    @Override
+    public CorrelationContext current() {
+        CorrelationContext context = CURRENT.get();
+        return context != null ? context : CorrelationContext.EMPTY;
+    }
+
+    @Override
+    public Scope attach(CorrelationContext context) {
+        CorrelationContext previous = CURRENT.get();
+        String previousCorrelationId = CorrelationIdUtils.getCorrelationId();
+        set(context);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            restoreCorrelationId(previousCorrelationId);
+        };
+    }
+
+    private static void set(CorrelationContext context) {
+        CURRENT.set(context);
+        restoreCorrelationId(context.getCorrelationId());
+    }
+
+    private static void restoreCorrelationId(String correlationId) {
+        if (correlationId != null) {
+            CorrelationIdUtils.setCorrelationId(correlationId);
+        } else {
+            CorrelationIdUtils.clearCorrelationId();
+        }
+    }
+}
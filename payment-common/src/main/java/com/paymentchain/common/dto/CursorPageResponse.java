@@ -0,0 +1,140 @@
+package com.paymentchain.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) paginated response wrapper with Builder pattern.
+ *
+ * Unlike {@link PageResponse} it carries no totals, so no {@code COUNT(*)} is
+ * needed, and the next page is addressed by an opaque {@code nextCursor}
+ * token instead of an offset (see {@link com.paymentchain.common.util.CursorCodec}).
+ *
+ * @param <T> The type of content in the slice
+ * @author benas
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private boolean empty;
+    private int numberOfElements;
+
+    public CursorPageResponse() {
+    }
+
+    public CursorPageResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.empty = content == null || content.isEmpty();
+        this.numberOfElements = content != null ? content.size() : 0;
+    }
+
+    private CursorPageResponse(Builder<T> builder) {
+        this(builder.content, builder.size, builder.nextCursor);
+    }
+
+    /**
+     * Build a slice from rows fetched with {@code LIMIT size + 1}: the extra
+     * row only signals that a next page exists and is not returned.
+     *
+     * @param rows     Rows in sort order, at most {@code size + 1}
+     * @param size     Requested slice size
+     * @param cursorOf Token for the position after a row, applied to the last returned row only
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<? super T, String> cursorOf) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        if (rows.size() <= size) {
+            return new CursorPageResponse<>(rows, size, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPageResponse<>(content, size, cursorOf.apply(content.get(size - 1)));
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private List<T> content;
+        private int size;
+        private String nextCursor;
+
+        public Builder<T> content(List<T> content) {
+            this.content = content;
+            return this;
+        }
+
+        public Builder<T> size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder<T> nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public CursorPageResponse<T> build() {
+            return new CursorPageResponse<>(this);
+        }
+    }
+
+    // Getters and setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public void setEmpty(boolean empty) {
+        this.empty = empty;
+    }
+
+    public int getNumberOfElements() {
+        return numberOfElements;
+    }
+
+    public void setNumberOfElements(int numberOfElements) {
+        this.numberOfElements = numberOfElements;
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 
 /**
  * Standard error response for API errors with Builder pattern.
+ * The validation error list is only allocated once an error is added or it is read.
  *
  * @author benas
  */
@@ -26,7 +27,6 @@ public class ErrorResponse {
 
     public ErrorResponse() {
         this.timestamp = Instant.now();
-        this.validationErrors = new ArrayList<>();
     }
 
     private ErrorResponse(Builder builder) {
@@ -36,7 +36,7 @@ public class ErrorResponse {
         this.message = builder.message;
         this.path = builder.path;
         this.correlationId = builder.correlationId;
-        this.validationErrors = builder.validationErrors != null ? builder.validationErrors : new ArrayList<>();
+        this.validationErrors = builder.validationErrors;
     }
 
     public static Builder builder() {
@@ -101,6 +101,9 @@ public class ErrorResponse {
     }
 
     public void addValidationError(String field, String message) {
+        if (validationErrors == null) {
+            validationErrors = new ArrayList<>();
+        }
         validationErrors.add(new ValidationError(field, message));
     }
 
@@ -153,7 +156,13 @@ public class ErrorResponse {
         this.correlationId = correlationId;
     }
 
+    /**
+     * Validation errors, allocating the (mutable) list on first access.
+     */
     public List<ValidationError> getValidationErrors() {
+        if (validationErrors == null) {
+            validationErrors = new ArrayList<>();
+        }
         return validationErrors;
     }
 
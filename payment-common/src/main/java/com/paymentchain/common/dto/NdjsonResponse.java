@@ -0,0 +1,106 @@
+package com.paymentchain.common.dto;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Newline-delimited JSON response: one JSON document per line, written as the
+ * records are pulled from the content stream.
+ *
+ * Return it from a controller mapped with {@code produces = "application/x-ndjson"};
+ * {@link com.paymentchain.common.web.NdjsonHttpMessageConverter} writes it,
+ * flushing every {@code chunkSize} records so clients can start processing
+ * before the last record is read, and closes the stream afterwards.
+ *
+ * @param <T> The type of the records
+ * @author benas
+ */
+public class NdjsonResponse<T> {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final Supplier<? extends Stream<? extends T>> content;
+    private final int chunkSize;
+
+    private NdjsonResponse(Builder<T> builder) {
+        this.content = Objects.requireNonNull(builder.content, "content");
+        if (builder.chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + builder.chunkSize);
+        }
+        this.chunkSize = builder.chunkSize;
+    }
+
+    /**
+     * Response streaming the given content with the default chunk size.
+     */
+    public static <T> NdjsonResponse<T> of(Supplier<? extends Stream<? extends T>> content) {
+        return NdjsonResponse.<T>builder().content(content).build();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private Supplier<? extends Stream<? extends T>> content;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        public Builder<T> content(Supplier<? extends Stream<? extends T>> content) {
+            this.content = content;
+            return this;
+        }
+
+        /**
+         * Stream the records from an iterator. If the iterator is
+         * {@link AutoCloseable} it is closed once writing ends.
+         */
+        public Builder<T> iterator(Supplier<? extends Iterator<? extends T>> iterator) {
+            this.content = () -> {
+                Iterator<? extends T> source = iterator.get();
+                Stream<? extends T> stream = StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), false);
+                return source instanceof AutoCloseable closeable ? stream.onClose(() -> close(closeable)) : stream;
+            };
+            return this;
+        }
+
+        /**
+         * Number of records written between flushes.
+         */
+        public Builder<T> chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public NdjsonResponse<T> build() {
+            return new NdjsonResponse<>(this);
+        }
+    }
+
+    /**
+     * Open a new record stream. The caller must close it.
+     */
+    public Stream<? extends T> openContent() {
+        return content.get();
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to close streamed content", e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.paymentchain.common.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Paginated response whose content is streamed while it is serialized, for
+ * exports too large to hold as a {@code List}.
+ *
+ * The content supplier is only invoked by the serializer, which writes the
+ * envelope fields, then each element as it is pulled from the stream, then
+ * {@code numberOfElements}, and always closes the stream afterwards (closing
+ * e.g. a JDBC cursor or a Spring Data {@code Stream}). Each serialization
+ * opens a new stream. The JSON shape matches {@link PageResponse}, minus the
+ * fields that need the content up front; {@code totalPages} and {@code last}
+ * are only written when {@code totalElements} is known.
+ *
+ * @param <T> The type of content in the page
+ * @author benas
+ */
+@JsonSerialize(using = StreamingPageResponse.StreamingPageResponseSerializer.class)
+public class StreamingPageResponse<T> {
+
+    private final Supplier<? extends Stream<? extends T>> content;
+    private final int pageNumber;
+    private final int pageSize;
+    private final Long totalElements;
+
+    private StreamingPageResponse(Builder<T> builder) {
+        this.content = Objects.requireNonNull(builder.content, "content");
+        this.pageNumber = builder.pageNumber;
+        this.pageSize = builder.pageSize;
+        this.totalElements = builder.totalElements;
+    }
+
+    /**
+     * Unpaged response streaming the given content.
+     */
+    public static <T> StreamingPageResponse<T> of(Supplier<? extends Stream<? extends T>> content) {
+        return StreamingPageResponse.<T>builder().content(content).build();
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+        private Supplier<? extends Stream<? extends T>> content;
+        private int pageNumber;
+        private int pageSize;
+        private Long totalElements;
+
+        public Builder<T> content(Supplier<? extends Stream<? extends T>> content) {
+            this.content = content;
+            return this;
+        }
+
+        /**
+         * Stream the content from an iterator. If the iterator is
+         * {@link AutoCloseable} it is closed after serialization.
+         */
+        public Builder<T> iterator(Supplier<? extends Iterator<? extends T>> iterator) {
+            this.content = () -> {
+                Iterator<? extends T> source = iterator.get();
+                Stream<? extends T> stream = StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), false);
+                return source instanceof AutoCloseable closeable ? stream.onClose(() -> close(closeable)) : stream;
+            };
+            return this;
+        }
+
+        public Builder<T> pageNumber(int pageNumber) {
+            this.pageNumber = pageNumber;
+            return this;
+        }
+
+        public Builder<T> pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Total number of elements, if known. Omitted from the JSON when not set.
+         */
+        public Builder<T> totalElements(long totalElements) {
+            this.totalElements = totalElements;
+            return this;
+        }
+
+        public StreamingPageResponse<T> build() {
+            return new StreamingPageResponse<>(this);
+        }
+    }
+
+    /**
+     * Open a new content stream. The caller must close it.
+     */
+    public Stream<? extends T> openContent() {
+        return content.get();
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    /**
+     * Total pages, computed like {@link PageResponse}, or null when the total is unknown.
+     */
+    public Integer getTotalPages() {
+        if (totalElements == null) {
+            return null;
+        }
+        return pageSize > 0 ? (int) Math.ceil((double) totalElements / pageSize) : 0;
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to close streamed content", e);
+        }
+    }
+
+    /**
+     * Writes the envelope and streams the elements straight to the generator.
+     */
+    static class StreamingPageResponseSerializer extends StdSerializer<StreamingPageResponse<?>> {
+
+        StreamingPageResponseSerializer() {
+            super(StreamingPageResponse.class, false);
+        }
+
+        @Override
+        public void serialize(StreamingPageResponse<?> value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(value);
+            gen.writeNumberField("pageNumber", value.getPageNumber());
+            gen.writeNumberField("pageSize", value.getPageSize());
+            Integer totalPages = value.getTotalPages();
+            if (totalPages != null) {
+                gen.writeNumberField("totalElements", value.getTotalElements());
+                gen.writeNumberField("totalPages", totalPages);
+            }
+
+            int count = 0;
+            gen.writeArrayFieldStart("content");
+            try (Stream<?> stream = value.openContent()) {
+                Iterator<?> elements = stream.iterator();
+                while (elements.hasNext()) {
+                    provider.defaultSerializeValue(elements.next(), gen);
+                    count++;
+                }
+            }
+            gen.writeEndArray();
+
+            gen.writeBooleanField("first", value.getPageNumber() == 0);
+            if (totalPages != null) {
+                gen.writeBooleanField("last", value.getPageNumber() >= totalPages - 1);
+            }
+            gen.writeBooleanField("empty", count == 0);
+            gen.writeNumberField("numberOfElements", count);
+            gen.writeEndObject();
+        }
+    }
+}
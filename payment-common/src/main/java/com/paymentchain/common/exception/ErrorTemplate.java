@@ -0,0 +1,77 @@
+package com.paymentchain.common.exception;
+
+import com.paymentchain.common.dto.ErrorResponse;
+import com.paymentchain.common.dto.ValidationError;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable, precomputed part of an error response: status and error label,
+ * plus an optional fixed message. Only the per-request fields are filled in
+ * when a response is created.
+ *
+ * @author benas
+ */
+final class ErrorTemplate {
+
+    private final HttpStatus status;
+    private final String error;
+    private final String message;
+
+    private ErrorTemplate(HttpStatus status, String error, String message) {
+        this.status = status;
+        this.error = error;
+        this.message = message;
+    }
+
+    static ErrorTemplate of(HttpStatus status, String error) {
+        return new ErrorTemplate(status, error, null);
+    }
+
+    /**
+     * Template whose message never depends on the exception.
+     */
+    static ErrorTemplate withMessage(HttpStatus status, String error, String message) {
+        return new ErrorTemplate(status, error, message);
+    }
+
+    HttpStatus getStatus() {
+        return status;
+    }
+
+    String getError() {
+        return error;
+    }
+
+    ResponseEntity<ErrorResponse> respond(String path) {
+        return respond(message, path, null);
+    }
+
+    ResponseEntity<ErrorResponse> respond(String path, List<ValidationError> validationErrors) {
+        return respond(message, path, validationErrors);
+    }
+
+    ResponseEntity<ErrorResponse> respond(String message, String path) {
+        return respond(message, path, null);
+    }
+
+    /**
+     * @param validationErrors Validation errors, or null for none
+     */
+    ResponseEntity<ErrorResponse> respond(String message, String path, List<ValidationError> validationErrors) {
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(path)
+                .correlationId(CorrelationIdUtils.getCorrelationId())
+                .validationErrors(validationErrors)
+                .build();
+        return new ResponseEntity<>(body, status);
+    }
+}
@@ -2,17 +2,20 @@ package com.paymentchain.common.exception;
 
 import com.paymentchain.common.dto.ErrorResponse;
 import com.paymentchain.common.dto.ValidationError;
-import com.paymentchain.common.util.CorrelationIdUtils;
+import com.paymentchain.common.logging.RateLimitedLogger;
+import com.paymentchain.common.metrics.ErrorRecorder;
 import com.paymentchain.domain.exception.BusinessRuleException;
 import com.paymentchain.domain.exception.DomainException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -22,6 +25,11 @@ import java.util.stream.Collectors;
 /**
  * Global exception handler for REST controllers.
  * Handles all exceptions and converts them to standardized error responses.
+ * Status and error labels come from precomputed {@link ErrorTemplate}s, since
+ * expected errors such as business rejections are on the hot path.
+ * Handled exceptions are counted per type and status through an optional
+ * {@link ErrorRecorder}, and logged through an optional {@link RateLimitedLogger}
+ * that collapses repeats into periodic summaries.
  *
  * @author benas
  */
@@ -30,6 +38,38 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    static final ErrorTemplate VALIDATION_FAILED =
+            ErrorTemplate.withMessage(HttpStatus.BAD_REQUEST, "Validation Failed", "Input validation error");
+    static final ErrorTemplate NOT_FOUND = ErrorTemplate.of(HttpStatus.NOT_FOUND, "Not Found");
+    static final ErrorTemplate BAD_REQUEST = ErrorTemplate.of(HttpStatus.BAD_REQUEST, "Bad Request");
+    static final ErrorTemplate SERVICE_UNAVAILABLE =
+            ErrorTemplate.of(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable");
+    static final ErrorTemplate DOMAIN_ERROR = ErrorTemplate.of(HttpStatus.BAD_REQUEST, "Domain Error");
+    static final ErrorTemplate BUSINESS_RULE_VIOLATION =
+            ErrorTemplate.of(HttpStatus.UNPROCESSABLE_ENTITY, "Business Rule Violation");
+    static final ErrorTemplate TYPE_MISMATCH = ErrorTemplate.of(HttpStatus.BAD_REQUEST, "Type Mismatch");
+    static final ErrorTemplate INTERNAL_ERROR = ErrorTemplate.withMessage(HttpStatus.INTERNAL_SERVER_ERROR,
+            "Internal Server Error", "An unexpected error occurred. Please try again later.");
+
+    private ErrorRecorder errorRecorder;
+    private RateLimitedLogger rateLimitedLogger;
+
+    /**
+     * Count handled exceptions per type and status.
+     */
+    @Autowired(required = false)
+    public void setErrorRecorder(ErrorRecorder errorRecorder) {
+        this.errorRecorder = errorRecorder;
+    }
+
+    /**
+     * Rate-limit log output per exception type.
+     */
+    @Autowired(required = false)
+    public void setRateLimitedLogger(RateLimitedLogger rateLimitedLogger) {
+        this.rateLimitedLogger = rateLimitedLogger;
+    }
+
     /**
      * Handles validation exceptions from @Valid annotations.
      */
@@ -38,7 +78,7 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             WebRequest request) {
 
-        logger.warn("Validation failed: {}", ex.getMessage());
+        warn(ex, "Validation failed: {}", ex.getMessage());
 
         List<ValidationError> validationErrors = ex.getBindingResult()
                 .getFieldErrors()
@@ -46,17 +86,8 @@ public class GlobalExceptionHandler {
                 .map(this::mapFieldError)
                 .collect(Collectors.toList());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Validation Failed")
-                .message("Input validation error")
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .validationErrors(validationErrors)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        count(ex, VALIDATION_FAILED);
+        return VALIDATION_FAILED.respond(extractPath(request), validationErrors);
     }
 
     /**
@@ -67,18 +98,10 @@ public class GlobalExceptionHandler {
             ResourceNotFoundException ex,
             WebRequest request) {
 
-        logger.warn("Resource not found: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error("Not Found")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
+        warn(ex, "Resource not found: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        count(ex, NOT_FOUND);
+        return NOT_FOUND.respond(ex.getMessage(), extractPath(request));
     }
 
     /**
@@ -89,26 +112,18 @@ public class GlobalExceptionHandler {
             InvalidRequestException ex,
             WebRequest request) {
 
-        logger.warn("Invalid request: {}", ex.getMessage());
+        warn(ex, "Invalid request: {}", ex.getMessage());
 
-        List<ValidationError> validationErrors = ex.getValidationErrors()
+        List<String> errors = ex.getValidationErrors();
+        List<ValidationError> validationErrors = errors.isEmpty() ? null : errors
                 .stream()
                 .map(error -> ValidationError.builder()
                         .message(error)
                         .build())
                 .collect(Collectors.toList());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Bad Request")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .validationErrors(validationErrors)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        count(ex, BAD_REQUEST);
+        return BAD_REQUEST.respond(ex.getMessage(), extractPath(request), validationErrors);
     }
 
     /**
@@ -119,18 +134,10 @@ public class GlobalExceptionHandler {
             ServiceUnavailableException ex,
             WebRequest request) {
 
-        logger.error("Service unavailable: {}", ex.getMessage());
+        error(ex, "Service unavailable: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        count(ex, SERVICE_UNAVAILABLE);
+        return SERVICE_UNAVAILABLE.respond(ex.getMessage(), extractPath(request));
     }
 
     /**
@@ -141,18 +148,10 @@ public class GlobalExceptionHandler {
             DomainException ex,
             WebRequest request) {
 
-        logger.warn("Domain exception: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Domain Error")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
+        warn(ex, "Domain exception: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        count(ex, DOMAIN_ERROR);
+        return DOMAIN_ERROR.respond(ex.getMessage(), extractPath(request));
     }
 
     /**
@@ -163,18 +162,10 @@ public class GlobalExceptionHandler {
             BusinessRuleException ex,
             WebRequest request) {
 
-        logger.warn("Business rule violation: {} - {}", ex.getRuleViolated(), ex.getMessage());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
-                .error("Business Rule Violation")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
+        warn(ex, "Business rule violation: {} - {}", ex.getRuleViolated(), ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+        count(ex, BUSINESS_RULE_VIOLATION);
+        return BUSINESS_RULE_VIOLATION.respond(ex.getMessage(), extractPath(request));
     }
 
     /**
@@ -185,18 +176,10 @@ public class GlobalExceptionHandler {
             IllegalArgumentException ex,
             WebRequest request) {
 
-        logger.warn("Illegal argument: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Bad Request")
-                .message(ex.getMessage())
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
+        warn(ex, "Illegal argument: {}", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        count(ex, BAD_REQUEST);
+        return BAD_REQUEST.respond(ex.getMessage(), extractPath(request));
     }
 
     /**
@@ -207,21 +190,13 @@ public class GlobalExceptionHandler {
             MethodArgumentTypeMismatchException ex,
             WebRequest request) {
 
-        logger.warn("Type mismatch: {}", ex.getMessage());
+        warn(ex, "Type mismatch: {}", ex.getMessage());
 
         String message = String.format("Invalid value '%s' for parameter '%s'. Expected type: %s",
                 ex.getValue(), ex.getName(), ex.getRequiredType().getSimpleName());
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Type Mismatch")
-                .message(message)
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        count(ex, TYPE_MISMATCH);
+        return TYPE_MISMATCH.respond(message, extractPath(request));
     }
 
     /**
@@ -232,18 +207,32 @@ public class GlobalExceptionHandler {
             Exception ex,
             WebRequest request) {
 
-        logger.error("Unexpected error occurred", ex);
+        error(ex, "Unexpected error occurred", ex);
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(java.time.Instant.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Internal Server Error")
-                .message("An unexpected error occurred. Please try again later.")
-                .path(extractPath(request))
-                .correlationId(CorrelationIdUtils.getCorrelationId())
-                .build();
+        count(ex, INTERNAL_ERROR);
+        return INTERNAL_ERROR.respond(extractPath(request));
+    }
+
+    private void count(Exception ex, ErrorTemplate template) {
+        if (errorRecorder != null) {
+            errorRecorder.record(ex.getClass(), template.getStatus().value());
+        }
+    }
+
+    private void warn(Exception ex, String format, Object... arguments) {
+        if (rateLimitedLogger != null) {
+            rateLimitedLogger.warn(ex.getClass().getName(), format, arguments);
+        } else {
+            logger.warn(format, arguments);
+        }
+    }
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    private void error(Exception ex, String format, Object... arguments) {
+        if (rateLimitedLogger != null) {
+            rateLimitedLogger.error(ex.getClass().getName(), format, arguments);
+        } else {
+            logger.error(format, arguments);
+        }
     }
 
     /**
@@ -262,6 +251,9 @@ public class GlobalExceptionHandler {
      * Extracts the request path from WebRequest.
      */
     private String extractPath(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
         String description = request.getDescription(false);
         return description.replace("uri=", "");
     }
@@ -1,10 +1,15 @@
 package com.paymentchain.common.exception;
 
+import com.paymentchain.domain.exception.DomainException;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Exception thrown when a request contains invalid data.
+ * Records a stack trace only if {@link DomainException#isStackTraceEnabled()}
+ * or when created with a cause.
  *
  * @author benas
  */
@@ -13,26 +18,30 @@ public class InvalidRequestException extends RuntimeException {
     private List<String> validationErrors;
 
     public InvalidRequestException(String message) {
-        super(message);
-        this.validationErrors = new ArrayList<>();
+        super(message, null, true, DomainException.isStackTraceEnabled());
     }
 
     public InvalidRequestException(String message, List<String> validationErrors) {
-        super(message);
-        this.validationErrors = validationErrors != null ? validationErrors : new ArrayList<>();
+        super(message, null, true, DomainException.isStackTraceEnabled());
+        this.validationErrors = validationErrors;
     }
 
     public InvalidRequestException(String message, Throwable cause) {
         super(message, cause);
-        this.validationErrors = new ArrayList<>();
     }
 
     public void addValidationError(String error) {
+        if (this.validationErrors == null) {
+            this.validationErrors = new ArrayList<>();
+        }
         this.validationErrors.add(error);
     }
 
+    /**
+     * Validation errors, or an empty list if none were added.
+     */
     public List<String> getValidationErrors() {
-        return validationErrors;
+        return validationErrors != null ? validationErrors : Collections.emptyList();
     }
 
     public void setValidationErrors(List<String> validationErrors) {
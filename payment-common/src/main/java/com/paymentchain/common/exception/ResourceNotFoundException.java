@@ -1,7 +1,11 @@
 package com.paymentchain.common.exception;
 
+import com.paymentchain.domain.exception.DomainException;
+
 /**
  * Exception thrown when a requested resource is not found.
+ * Records a stack trace only if {@link DomainException#isStackTraceEnabled()}
+ * or when created with a cause.
  *
  * @author benas
  */
@@ -12,11 +16,12 @@ public class ResourceNotFoundException extends RuntimeException {
     private Object fieldValue;
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, true, DomainException.isStackTraceEnabled());
     }
 
     public ResourceNotFoundException(String resourceName, String fieldName, Object fieldValue) {
-        super(String.format("%s not found with %s: '%s'", resourceName, fieldName, fieldValue));
+        super(resourceName + " not found with " + fieldName + ": '" + fieldValue + "'",
+                null, true, DomainException.isStackTraceEnabled());
         this.resourceName = resourceName;
         this.fieldName = fieldName;
         this.fieldValue = fieldValue;
@@ -0,0 +1,185 @@
+package com.paymentchain.common.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Response wrapper that streams the body straight through to the client and
+ * keeps a copy of at most the first {@code limit} bytes for logging.
+ *
+ * Unlike {@link org.springframework.web.util.ContentCachingResponseWrapper},
+ * nothing is held back, so large responses cost no extra heap and need no
+ * copy at the end of the request.
+ *
+ * @author benas
+ */
+class BoundedCaptureResponseWrapper extends HttpServletResponseWrapper {
+
+    private final byte[] captured;
+    private int capturedLength;
+    private long totalLength;
+
+    private ServletOutputStream outputStream;
+    private CapturingOutputStream writerStream;
+    private PrintWriter writer;
+
+    BoundedCaptureResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.captured = new byte[limit];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called on this response");
+        }
+        if (writer == null) {
+            writerStream = new CapturingOutputStream(super.getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(writerStream, charset()), false);
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void reset() {
+        // Encoded characters must reach the container buffer to be discarded with it
+        flushWriter();
+        super.reset();
+        clearCapture();
+    }
+
+    @Override
+    public void resetBuffer() {
+        flushWriter();
+        super.resetBuffer();
+        clearCapture();
+    }
+
+    /**
+     * Move characters still buffered in the writer's encoder to the underlying
+     * response (and the capture) without flushing it, so the response is not
+     * committed by this call.
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writerStream.propagateFlush = false;
+            try {
+                writer.flush();
+            } finally {
+                writerStream.propagateFlush = true;
+            }
+        }
+    }
+
+    /**
+     * The captured prefix of the body.
+     */
+    byte[] getCapturedContent() {
+        return Arrays.copyOf(captured, capturedLength);
+    }
+
+    /**
+     * Total number of body bytes written, captured or not.
+     */
+    long getTotalLength() {
+        return totalLength;
+    }
+
+    private void clearCapture() {
+        capturedLength = 0;
+        totalLength = 0;
+    }
+
+    private Charset charset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+    }
+
+    private void capture(int b) {
+        totalLength++;
+        if (capturedLength < captured.length) {
+            captured[capturedLength++] = (byte) b;
+        }
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        totalLength += len;
+        int n = Math.min(len, captured.length - capturedLength);
+        if (n > 0) {
+            System.arraycopy(b, off, captured, capturedLength, n);
+            capturedLength += n;
+        }
+    }
+
+    private final class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private boolean propagateFlush = true;
+
+        CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (propagateFlush) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.paymentchain.common.filter;
 
+import com.paymentchain.common.context.CorrelationContext;
+import com.paymentchain.common.context.Scope;
+import com.paymentchain.common.tracing.ServerSpan;
+import com.paymentchain.common.tracing.SpanExporter;
+import com.paymentchain.common.tracing.TraceParent;
+import com.paymentchain.common.util.CorrelationIdGenerator;
 import com.paymentchain.common.util.CorrelationIdUtils;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -15,14 +24,60 @@ import java.io.IOException;
  * Filter to manage correlation IDs for request tracking.
  * Executes first in the filter chain to ensure correlation ID is available for all subsequent filters.
  *
+ * Missing IDs are generated with the {@link CorrelationIdGenerator} named by
+ * {@code payment-common.correlation-id.generator}, which also becomes the
+ * {@link CorrelationIdUtils} default. The ID is made current as a
+ * {@link CorrelationContext}, so it can be propagated to other threads.
+ *
+ * Also handles W3C Trace Context. When a {@link SpanExporter} is configured,
+ * an incoming {@code traceparent} is continued with a new span id (otherwise
+ * a new trace is started), the span's {@code traceparent} and any
+ * {@code tracestate} are set on the response and as context attributes, and
+ * the request is exported as a {@link ServerSpan}. Without an exporter no
+ * ids are generated: a caller's trace context is passed on unchanged.
+ * Without an {@code X-Correlation-Id} header, a caller's trace id is used
+ * as the correlation ID.
+ *
  * @author benas
  */
 @Component
 @Order(1)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CorrelationIdFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(CorrelationIdFilter.class);
 
+    private final CorrelationIdGenerator generator;
+
+    private SpanExporter spanExporter;
+
+    /**
+     * Create a filter that uses the current {@link CorrelationIdUtils} generator.
+     */
+    public CorrelationIdFilter() {
+        this(CorrelationIdUtils.getGenerator());
+    }
+
+    public CorrelationIdFilter(CorrelationIdGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Autowired
+    public CorrelationIdFilter(@Value("${payment-common.correlation-id.generator:random}") String generatorName,
+                               @Value("${payment-common.correlation-id.node-id:${HOSTNAME:node}}") String nodeId) {
+        this(CorrelationIdGenerator.of(generatorName, nodeId));
+        CorrelationIdUtils.setGenerator(generator);
+        logger.info("Using {} correlation ID generator", generatorName);
+    }
+
+    /**
+     * Enable tracing: start or continue a trace and export a server span for every request.
+     */
+    @Autowired(required = false)
+    public void setSpanExporter(SpanExporter spanExporter) {
+        this.spanExporter = spanExporter;
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -30,28 +85,68 @@ public class CorrelationIdFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        try {
-            // Get correlation ID from header or generate new one
-            String correlationId = httpRequest.getHeader(CorrelationIdUtils.getCorrelationIdHeader());
-            if (correlationId == null || correlationId.trim().isEmpty()) {
-                correlationId = CorrelationIdUtils.generateCorrelationId();
-                logger.debug("Generated new correlation ID: {}", correlationId);
-            } else {
-                logger.debug("Using existing correlation ID: {}", correlationId);
-            }
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
-            // Set in MDC for logging
-            CorrelationIdUtils.setCorrelationId(correlationId);
+        // Continue the caller's trace, or start a new one; without an exporter, only pass the caller's on
+        TraceParent parent = TraceParent.parse(httpRequest.getHeader(TraceParent.HEADER));
+        SpanExporter exporter = spanExporter;
+        TraceParent span = exporter == null ? parent : parent != null ? parent.child() : TraceParent.newRoot();
+        String traceParent = span != null ? span.format() : null;
+        String traceState = parent != null
+                ? TraceParent.sanitizeState(httpRequest.getHeader(TraceParent.STATE_HEADER))
+                : null;
 
-            // Add to response header
+        // Get correlation ID from header, fall back to the caller's trace id or generate new one
+        String correlationId = httpRequest.getHeader(CorrelationIdUtils.getCorrelationIdHeader());
+        if (correlationId == null || correlationId.trim().isEmpty()) {
+            correlationId = parent != null ? parent.getTraceId() : generator.nextId();
+            logger.debug("Generated new correlation ID: {}", correlationId);
+        } else {
+            logger.debug("Using existing correlation ID: {}", correlationId);
+        }
+
+        CorrelationContext context = CorrelationContext.of(correlationId);
+        if (traceParent != null) {
+            context = context.with(TraceParent.HEADER, traceParent);
+        }
+        if (traceState != null) {
+            context = context.with(TraceParent.STATE_HEADER, traceState);
+        }
+
+        // Make the context current (sets the MDC); closing the scope restores the previous state
+        boolean completed = false;
+        try (Scope ignored = context.makeCurrent()) {
+            // Add to response headers
             httpResponse.setHeader(CorrelationIdUtils.getCorrelationIdHeader(), correlationId);
+            if (traceParent != null) {
+                httpResponse.setHeader(TraceParent.HEADER, traceParent);
+            }
+            if (traceState != null) {
+                httpResponse.setHeader(TraceParent.STATE_HEADER, traceState);
+            }
 
             // Continue the filter chain
             chain.doFilter(request, response);
-
+            completed = true;
         } finally {
-            // Always clear MDC after request processing
-            CorrelationIdUtils.clearCorrelationId();
+            if (exporter != null) {
+                // An exception escaping the chain becomes a 500 unless the status was already sent
+                int status = !completed && !httpResponse.isCommitted()
+                        ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                        : httpResponse.getStatus();
+                exportSpan(exporter, new ServerSpan(span, parent,
+                        httpRequest.getMethod() + " " + Routes.of(httpRequest),
+                        startTime, System.nanoTime() - startNanos, status));
+            }
+        }
+    }
+
+    private static void exportSpan(SpanExporter exporter, ServerSpan span) {
+        try {
+            exporter.export(span);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to export span {}", span, e);
         }
     }
 
@@ -1,31 +1,99 @@
 package com.paymentchain.common.filter;
 
+import com.paymentchain.common.logging.AccessLogPipeline;
+import com.paymentchain.common.metrics.LatencyRecorder;
 import com.paymentchain.common.util.CorrelationIdUtils;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Filter to log HTTP requests and responses.
  * Executes after CorrelationIdFilter to ensure correlation ID is available.
  *
+ * Response bodies are only logged at debug level, for sampled requests
+ * ({@code payment-common.logging.sample-rate}), requests whose path starts
+ * with one of {@code payment-common.logging.include-paths}, and error
+ * responses. Bodies are streamed through to the client and at most
+ * {@code payment-common.logging.max-payload-length} bytes are kept; with
+ * debug off, requests are not wrapped at all.
+ *
+ * When an {@link AccessLogPipeline} is available, request and response lines
+ * are handed to it instead of being formatted on the request thread.
+ * Durations are measured with {@link System#nanoTime()} and, when a
+ * {@link LatencyRecorder} is available, recorded per route template and status.
+ *
  * @author benas
  */
 @Component
 @Order(2)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class LoggingFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingFilter.class);
     private static final int MAX_PAYLOAD_LENGTH = 1000;
+    private static final double SAMPLE_RATE = 0.1;
+
+    private final double sampleRate;
+    private final int maxPayloadLength;
+    private final String[] includePaths;
+
+    private AccessLogPipeline accessLog;
+    private LatencyRecorder latencyRecorder;
+
+    /**
+     * Create a filter with the default sample rate and payload limit.
+     */
+    public LoggingFilter() {
+        this(SAMPLE_RATE, MAX_PAYLOAD_LENGTH, List.of());
+    }
+
+    @Autowired
+    public LoggingFilter(@Value("${payment-common.logging.sample-rate:" + SAMPLE_RATE + "}") double sampleRate,
+                         @Value("${payment-common.logging.max-payload-length:" + MAX_PAYLOAD_LENGTH + "}") int maxPayloadLength,
+                         @Value("${payment-common.logging.include-paths:}") List<String> includePaths) {
+        if (sampleRate < 0.0 || sampleRate > 1.0) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + sampleRate);
+        }
+        if (maxPayloadLength < 0) {
+            throw new IllegalArgumentException("Max payload length must not be negative: " + maxPayloadLength);
+        }
+        this.sampleRate = sampleRate;
+        this.maxPayloadLength = maxPayloadLength;
+        this.includePaths = includePaths.stream()
+                .map(String::trim)
+                .filter(path -> !path.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Send request/response lines to the asynchronous access log.
+     */
+    @Autowired(required = false)
+    public void setAccessLogPipeline(AccessLogPipeline accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    /**
+     * Record request latency per route and status.
+     */
+    @Autowired(required = false)
+    public void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -34,31 +102,76 @@ public class LoggingFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        // Wrap request and response to cache content
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(httpRequest);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(httpResponse);
+        // Only capture the body when it may be logged, and never more than the payload limit
+        BoundedCaptureResponseWrapper capturingResponse = logger.isDebugEnabled() && maxPayloadLength > 0
+                ? new BoundedCaptureResponseWrapper(httpResponse, maxPayloadLength)
+                : null;
 
+        AccessLogPipeline accessLog = this.accessLog;
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean completed = false;
 
         try {
             // Log incoming request
-            logRequest(wrappedRequest);
+            if (accessLog == null) {
+                logRequest(httpRequest);
+            }
 
             // Continue the filter chain
-            chain.doFilter(wrappedRequest, wrappedResponse);
+            chain.doFilter(request, capturingResponse != null ? capturingResponse : response);
+            completed = true;
 
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
+            // Always drain the capture writer, or encoder-buffered output of unlogged responses is lost
+            if (capturingResponse != null) {
+                capturingResponse.flushWriter();
+            }
+
+            long durationNanos = System.nanoTime() - startNanos;
+            long duration = durationNanos / 1_000_000;
+
+            // An exception escaping the chain becomes a 500 unless the status was already sent
+            int status = !completed && !httpResponse.isCommitted()
+                    ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                    : httpResponse.getStatus();
+
+            if (latencyRecorder != null) {
+                latencyRecorder.record(Routes.of(httpRequest), status, durationNanos);
+            }
 
             // Log outgoing response
-            logResponse(wrappedRequest, wrappedResponse, duration);
+            if (accessLog != null) {
+                accessLog.log(startTime, httpRequest.getMethod(), httpRequest.getRequestURI(),
+                        httpRequest.getQueryString(), status, duration,
+                        CorrelationIdUtils.getCorrelationId());
+            } else {
+                logResponse(httpRequest, status, duration);
+            }
+
+            if (capturingResponse != null && shouldLogBody(httpRequest, status)) {
+                logResponseBody(capturingResponse);
+            }
+        }
+    }
+
+    private boolean shouldLogBody(HttpServletRequest request, int status) {
+        if (status >= 400 || isIncludedPath(request.getRequestURI())) {
+            return true;
+        }
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
 
-            // Copy cached response content to actual response
-            wrappedResponse.copyBodyToResponse();
+    private boolean isIncludedPath(String uri) {
+        for (String path : includePaths) {
+            if (uri.startsWith(path)) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private void logRequest(ContentCachingRequestWrapper request) {
+    private void logRequest(HttpServletRequest request) {
         String correlationId = CorrelationIdUtils.getCorrelationId();
         String method = request.getMethod();
         String uri = request.getRequestURI();
@@ -84,13 +197,12 @@ public class LoggingFilter implements Filter {
         }
     }
 
-    private void logResponse(ContentCachingRequestWrapper request,
-                            ContentCachingResponseWrapper response,
+    private void logResponse(HttpServletRequest request,
+                            int status,
                             long duration) {
         String correlationId = CorrelationIdUtils.getCorrelationId();
         String method = request.getMethod();
         String uri = request.getRequestURI();
-        int status = response.getStatus();
 
         StringBuilder logMessage = new StringBuilder();
         logMessage.append("Outgoing Response: ")
@@ -111,11 +223,6 @@ public class LoggingFilter implements Filter {
         } else {
             logger.info(logMessage.toString());
         }
-
-        // Log response body if debug is enabled
-        if (logger.isDebugEnabled()) {
-            logResponseBody(response);
-        }
     }
 
     private void logHeaders(HttpServletRequest request) {
@@ -131,13 +238,12 @@ public class LoggingFilter implements Filter {
         logger.debug(headers.toString());
     }
 
-    private void logResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
+    private void logResponseBody(BoundedCaptureResponseWrapper response) {
+        byte[] content = response.getCapturedContent();
         if (content.length > 0) {
-            String body = new String(content, 0, Math.min(content.length, MAX_PAYLOAD_LENGTH));
-            logger.debug("Response Body: {}", body);
-            if (content.length > MAX_PAYLOAD_LENGTH) {
-                logger.debug("Response body truncated (max {} chars)", MAX_PAYLOAD_LENGTH);
+            logger.debug("Response Body: {}", new String(content, StandardCharsets.UTF_8));
+            if (response.getTotalLength() > content.length) {
+                logger.debug("Response body truncated ({} of {} bytes)", content.length, response.getTotalLength());
             }
         }
     }
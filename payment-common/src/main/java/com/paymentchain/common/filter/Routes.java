@@ -0,0 +1,28 @@
+package com.paymentchain.common.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Route template lookup shared by the servlet filters.
+ *
+ * @author benas
+ */
+final class Routes {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private Routes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Route template of the matched handler, or {@link #UNMATCHED_ROUTE}.
+     * Only available once the chain has run.
+     */
+    static String of(HttpServletRequest request) {
+        // Set by Spring MVC once a handler is matched; raw URIs would give unbounded cardinality
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String route ? route : UNMATCHED_ROUTE;
+    }
+}
@@ -0,0 +1,147 @@
+package com.paymentchain.common.filter.reactive;
+
+import com.paymentchain.common.context.CorrelationContext;
+import com.paymentchain.common.tracing.ServerSpan;
+import com.paymentchain.common.tracing.SpanExporter;
+import com.paymentchain.common.tracing.TraceParent;
+import com.paymentchain.common.util.CorrelationIdGenerator;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.paymentchain.common.filter.CorrelationIdFilter}.
+ *
+ * Resolves the correlation ID and W3C trace context the same way, sets the
+ * response headers, and stores the resulting {@link CorrelationContext} in
+ * the Reactor context under {@link #CONTEXT_KEY} instead of a ThreadLocal.
+ * Read it with {@link #currentContext()}.
+ *
+ * @author benas
+ */
+@Component
+@Order(1)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCorrelationIdFilter implements WebFilter {
+
+    /** Reactor context key holding the request's {@link CorrelationContext}. */
+    public static final Class<CorrelationContext> CONTEXT_KEY = CorrelationContext.class;
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCorrelationIdFilter.class);
+
+    private final CorrelationIdGenerator generator;
+
+    private SpanExporter spanExporter;
+
+    /**
+     * Create a filter that uses the current {@link CorrelationIdUtils} generator.
+     */
+    public ReactiveCorrelationIdFilter() {
+        this(CorrelationIdUtils.getGenerator());
+    }
+
+    public ReactiveCorrelationIdFilter(CorrelationIdGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Autowired
+    public ReactiveCorrelationIdFilter(
+            @Value("${payment-common.correlation-id.generator:random}") String generatorName,
+            @Value("${payment-common.correlation-id.node-id:${HOSTNAME:node}}") String nodeId) {
+        this(CorrelationIdGenerator.of(generatorName, nodeId));
+        CorrelationIdUtils.setGenerator(generator);
+        logger.info("Using {} correlation ID generator", generatorName);
+    }
+
+    /**
+     * Enable tracing: start or continue a trace and export a server span for every request.
+     */
+    @Autowired(required = false)
+    public void setSpanExporter(SpanExporter spanExporter) {
+        this.spanExporter = spanExporter;
+    }
+
+    /**
+     * The correlation context of the request being processed.
+     */
+    public static Mono<CorrelationContext> currentContext() {
+        return Mono.deferContextual(view -> Mono.just(view.getOrDefault(CONTEXT_KEY, CorrelationContext.EMPTY)));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders requestHeaders = request.getHeaders();
+
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        // Continue the caller's trace, or start a new one; without an exporter, only pass the caller's on
+        TraceParent parent = TraceParent.parse(requestHeaders.getFirst(TraceParent.HEADER));
+        SpanExporter exporter = spanExporter;
+        TraceParent span = exporter == null ? parent : parent != null ? parent.child() : TraceParent.newRoot();
+        String traceParent = span != null ? span.format() : null;
+        String traceState = parent != null
+                ? TraceParent.sanitizeState(requestHeaders.getFirst(TraceParent.STATE_HEADER))
+                : null;
+
+        // Get correlation ID from header, fall back to the caller's trace id or generate new one
+        String correlationId = requestHeaders.getFirst(CorrelationIdUtils.getCorrelationIdHeader());
+        if (correlationId == null || correlationId.trim().isEmpty()) {
+            correlationId = parent != null ? parent.getTraceId() : generator.nextId();
+            logger.debug("Generated new correlation ID: {}", correlationId);
+        } else {
+            logger.debug("Using existing correlation ID: {}", correlationId);
+        }
+
+        CorrelationContext context = CorrelationContext.of(correlationId);
+        if (traceParent != null) {
+            context = context.with(TraceParent.HEADER, traceParent);
+        }
+        if (traceState != null) {
+            context = context.with(TraceParent.STATE_HEADER, traceState);
+        }
+
+        // Add to response headers
+        HttpHeaders responseHeaders = response.getHeaders();
+        responseHeaders.set(CorrelationIdUtils.getCorrelationIdHeader(), correlationId);
+        if (traceParent != null) {
+            responseHeaders.set(TraceParent.HEADER, traceParent);
+        }
+        if (traceState != null) {
+            responseHeaders.set(TraceParent.STATE_HEADER, traceState);
+        }
+
+        CorrelationContext requestContext = context;
+        Mono<Void> result = chain.filter(exchange)
+                .contextWrite(reactorContext -> reactorContext.put(CONTEXT_KEY, requestContext));
+
+        if (exporter == null) {
+            return result;
+        }
+        return result.doFinally(signal -> exportSpan(exporter, new ServerSpan(span, parent,
+                request.getMethod() + " " + Routes.of(exchange),
+                startTime, System.nanoTime() - startNanos, Routes.status(response, signal))));
+    }
+
+    private static void exportSpan(SpanExporter exporter, ServerSpan span) {
+        try {
+            exporter.export(span);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to export span {}", span, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.paymentchain.common.filter.reactive;
+
+import com.paymentchain.common.context.CorrelationContext;
+import com.paymentchain.common.context.Scope;
+import com.paymentchain.common.logging.AccessLogPipeline;
+import com.paymentchain.common.metrics.LatencyRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.paymentchain.common.filter.LoggingFilter}.
+ * Executes after ReactiveCorrelationIdFilter and reads the correlation context
+ * from the Reactor context, making it current (and so visible in the MDC) while
+ * its own lines are logged.
+ *
+ * Logs request and response lines (or hands them to the {@link AccessLogPipeline}),
+ * and records latency per route and status, measured with {@link System#nanoTime()}
+ * until the response completes. A chain that fails before the response is
+ * committed counts as 500, a cancelled one as 499. Bodies are never buffered.
+ *
+ * @author benas
+ */
+@Component
+@Order(2)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoggingFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveLoggingFilter.class);
+
+    private AccessLogPipeline accessLog;
+    private LatencyRecorder latencyRecorder;
+
+    /**
+     * Send request/response lines to the asynchronous access log.
+     */
+    @Autowired(required = false)
+    public void setAccessLogPipeline(AccessLogPipeline accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    /**
+     * Record request latency per route and status.
+     */
+    @Autowired(required = false)
+    public void setLatencyRecorder(LatencyRecorder latencyRecorder) {
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.deferContextual(view -> filter(exchange, chain,
+                view.getOrDefault(ReactiveCorrelationIdFilter.CONTEXT_KEY, CorrelationContext.EMPTY)));
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, CorrelationContext context) {
+        ServerHttpRequest request = exchange.getRequest();
+        AccessLogPipeline accessLog = this.accessLog;
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        // Log incoming request
+        if (accessLog == null) {
+            try (Scope ignored = context.makeCurrent()) {
+                logger.info("Incoming Request: {} {} [correlationId={}]",
+                        request.getMethod(), uri(request), context.getCorrelationId());
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Request Headers: {}", request.getHeaders());
+                }
+            }
+        }
+
+        return chain.filter(exchange).doFinally(signal -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            long duration = durationNanos / 1_000_000;
+            int status = Routes.status(exchange.getResponse(), signal);
+
+            if (latencyRecorder != null) {
+                latencyRecorder.record(Routes.of(exchange), status, durationNanos);
+            }
+
+            // Log outgoing response
+            if (accessLog != null) {
+                accessLog.log(startTime, request.getMethod().name(), request.getPath().value(),
+                        request.getURI().getRawQuery(), status, duration, context.getCorrelationId());
+            } else {
+                try (Scope ignored = context.makeCurrent()) {
+                    logResponse(request, status, duration, context.getCorrelationId());
+                }
+            }
+        });
+    }
+
+    private static void logResponse(ServerHttpRequest request, int status, long duration, String correlationId) {
+        String message = "Outgoing Response: {} {} - Status: {} - Duration: {}ms [correlationId={}]";
+        Object[] arguments = {request.getMethod(), request.getPath().value(), status, duration, correlationId};
+        if (status >= 500) {
+            logger.error(message, arguments);
+        } else if (status >= 400) {
+            logger.warn(message, arguments);
+        } else {
+            logger.info(message, arguments);
+        }
+    }
+
+    private static String uri(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        return query != null ? request.getPath().value() + "?" + query : request.getPath().value();
+    }
+}
@@ -0,0 +1,59 @@
+package com.paymentchain.common.filter.reactive;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Route template and status lookup shared by the reactive filters.
+ *
+ * @author benas
+ */
+final class Routes {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    /** Non-standard status for requests the client abandoned, as used by nginx. */
+    static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private Routes() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Route template of the matched handler, or {@link #UNMATCHED_ROUTE}.
+     * Only available once the chain has run.
+     */
+    static String of(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof PathPattern pathPattern ? pathPattern.getPatternString() : UNMATCHED_ROUTE;
+    }
+
+    /**
+     * Response status code, 200 when none was set explicitly.
+     */
+    static int status(ServerHttpResponse response) {
+        HttpStatusCode status = response.getStatusCode();
+        return status != null ? status.value() : 200;
+    }
+
+    /**
+     * Response status once the chain has terminated with the given signal. An error
+     * before the response was committed is answered by a WebExceptionHandler outside
+     * the filters, so it counts as 500; a cancellation (client gone) as 499.
+     */
+    static int status(ServerHttpResponse response, SignalType signal) {
+        if (!response.isCommitted()) {
+            if (signal == SignalType.ON_ERROR) {
+                return 500;
+            }
+            if (signal == SignalType.CANCEL) {
+                return CLIENT_CLOSED_REQUEST;
+            }
+        }
+        return status(response);
+    }
+}
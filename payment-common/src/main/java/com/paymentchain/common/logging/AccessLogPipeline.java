@@ -0,0 +1,252 @@
+package com.paymentchain.common.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous access log: request threads copy the facts of an exchange into
+ * a preallocated {@link AccessLogRecord} slot of a lock-free ring buffer, and a
+ * single background thread formats each record as a JSON line and hands it to
+ * the sink.
+ *
+ * Publishing never blocks and never allocates. When the ring is full the
+ * record is dropped and counted; the consumer logs a warning with the number
+ * of dropped records once per second while drops keep happening.
+ *
+ * @author benas
+ */
+public class AccessLogPipeline implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogPipeline.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AccessLogRecord[] records;
+    // Per-slot sequence: equals the claim position when free, position + 1 once published
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final Consumer<String> sink;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+
+    private final Thread consumer;
+    private volatile boolean running;
+
+    // Consumer thread only
+    private long head;
+    private final StringBuilder line = new StringBuilder(256);
+    private long reportedDrops;
+    private long lastDropReport;
+
+    /**
+     * Create a pipeline. Call {@link #start()} to begin writing.
+     *
+     * @param capacity Number of ring slots, rounded up to a power of two (at least 2)
+     * @param sink     Receives one JSON line per record, on the consumer thread
+     */
+    public AccessLogPipeline(int capacity, Consumer<String> sink) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        // At least two slots, so a published sequence never equals the next claim position
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.records = new AccessLogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            records[i] = new AccessLogRecord();
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.sink = sink;
+        this.consumer = new Thread(this::drainLoop, "access-log-writer");
+        this.consumer.setDaemon(true);
+    }
+
+    /**
+     * Start the background writer thread.
+     */
+    public synchronized AccessLogPipeline start() {
+        if (!running) {
+            running = true;
+            consumer.start();
+        }
+        return this;
+    }
+
+    /**
+     * Publish the facts of one exchange. Never blocks.
+     *
+     * @return true if the record was queued, false if it was dropped because the ring is full
+     */
+    public boolean log(long timestamp, String method, String uri, String queryString,
+                       int status, long durationMillis, String correlationId) {
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds a record from the previous lap: the ring is full
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        records[index].set(timestamp, method, uri, queryString, status, durationMillis, correlationId);
+        sequences.setRelease(index, position + 1);
+        published.increment();
+        return true;
+    }
+
+    /**
+     * Number of records queued since creation.
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Number of records dropped because the ring was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of records handed to the sink.
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Ring capacity in records.
+     */
+    public int getCapacity() {
+        return records.length;
+    }
+
+    /**
+     * Stop the writer thread after draining the records queued so far.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            reportDrops();
+        }
+        drain();
+        reportDrops();
+    }
+
+    private int drain() {
+        int count = 0;
+        while (true) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                return count;
+            }
+            AccessLogRecord record = records[index];
+            try {
+                sink.accept(format(record, line));
+            } catch (RuntimeException e) {
+                logger.error("Access log sink failed", e);
+            }
+            record.clear();
+            sequences.setRelease(index, head + records.length);
+            head++;
+            count++;
+            written.incrementAndGet();
+        }
+    }
+
+    private void reportDrops() {
+        long now = System.nanoTime();
+        if (now - lastDropReport < DROP_REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        lastDropReport = now;
+        long total = dropped.sum();
+        if (total > reportedDrops) {
+            logger.warn("Access log ring full, dropped {} records ({} in total)", total - reportedDrops, total);
+            reportedDrops = total;
+        }
+    }
+
+    /**
+     * Format a record as a single JSON line, reusing the given builder.
+     */
+    static String format(AccessLogRecord record, StringBuilder out) {
+        out.setLength(0);
+        out.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(record.getTimestamp())).append('"');
+        appendField(out, "method", record.getMethod());
+        appendField(out, "uri", record.getUri());
+        appendField(out, "query", record.getQueryString());
+        out.append(",\"status\":").append(record.getStatus());
+        out.append(",\"durationMs\":").append(record.getDurationMillis());
+        appendField(out, "correlationId", record.getCorrelationId());
+        out.append('}');
+        return out.toString();
+    }
+
+    private static void appendField(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,69 @@
+package com.paymentchain.common.logging;
+
+/**
+ * Facts about one HTTP exchange, captured on the request thread.
+ *
+ * Instances are preallocated by {@link AccessLogPipeline} and reused, so a
+ * record is only valid inside the sink call that receives it.
+ *
+ * @author benas
+ */
+public final class AccessLogRecord {
+
+    private long timestamp;
+    private String method;
+    private String uri;
+    private String queryString;
+    private int status;
+    private long durationMillis;
+    private String correlationId;
+
+    AccessLogRecord() {
+    }
+
+    void set(long timestamp, String method, String uri, String queryString,
+             int status, long durationMillis, String correlationId) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.uri = uri;
+        this.queryString = queryString;
+        this.status = status;
+        this.durationMillis = durationMillis;
+        this.correlationId = correlationId;
+    }
+
+    void clear() {
+        set(0L, null, null, null, 0, 0L, null);
+    }
+
+    /**
+     * Request start in epoch milliseconds.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getQueryString() {
+        return queryString;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+}
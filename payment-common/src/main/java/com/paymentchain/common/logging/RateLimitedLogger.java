@@ -0,0 +1,232 @@
+package com.paymentchain.common.logging;
+
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Logger wrapper that rate-limits messages per key (typically the exception
+ * type) with a token bucket, so that repeated errors during an incident do
+ * not flood the log or slow request threads down with stack trace output.
+ *
+ * Each key may log {@code burst} messages at once and then
+ * {@code permitsPerSecond} messages per second. Messages over the limit are
+ * only counted, together with the first correlation ID seen. Once started,
+ * a background thread logs one summary per key with suppressed messages
+ * every summary interval. Acquiring a token is a single CAS and never blocks.
+ *
+ * @author benas
+ */
+public class RateLimitedLogger implements Closeable {
+
+    static final int MAX_KEYS = 1024;
+    static final String OVERFLOW_KEY = "other";
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger keyCount = new AtomicInteger();
+    private final LongAdder suppressedTotal = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param logger           Target logger
+     * @param permitsPerSecond Sustained messages per second and key
+     * @param burst            Messages per key that may be logged at once
+     */
+    public RateLimitedLogger(Logger logger, double permitsPerSecond, int burst) {
+        this(logger, permitsPerSecond, burst, System::nanoTime);
+    }
+
+    RateLimitedLogger(Logger logger, double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0.0) {
+            throw new IllegalArgumentException("Permits per second must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+        }
+        this.logger = logger;
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Log summaries of suppressed messages every interval on a daemon thread.
+     *
+     * @throws IllegalArgumentException if the interval is shorter than one millisecond
+     */
+    public synchronized RateLimitedLogger start(Duration summaryInterval) {
+        if (summaryInterval == null || summaryInterval.toMillis() < 1) {
+            throw new IllegalArgumentException("Summary interval must be at least 1 ms: " + summaryInterval);
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rate-limited-log-summary");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = summaryInterval.toMillis();
+            scheduler.scheduleAtFixedRate(this::flushSummaries, period, period, TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    public boolean warn(String key, String format, Object... arguments) {
+        return log(Level.WARN, key, format, arguments);
+    }
+
+    public boolean error(String key, String format, Object... arguments) {
+        return log(Level.ERROR, key, format, arguments);
+    }
+
+    /**
+     * Log the message if the key still has a token, count it otherwise.
+     * A trailing Throwable argument is logged with its stack trace, as with SLF4J.
+     *
+     * @return true if the message was logged, false if it was suppressed or the level is disabled
+     */
+    public boolean log(Level level, String key, String format, Object... arguments) {
+        if (!logger.isEnabledForLevel(level)) {
+            return false;
+        }
+        Bucket bucket = bucket(key);
+        if (!bucket.tryAcquire(nanoClock.getAsLong(), intervalNanos, toleranceNanos)) {
+            bucket.suppress(CorrelationIdUtils.getCorrelationId());
+            suppressedTotal.increment();
+            return false;
+        }
+        switch (level) {
+            case ERROR -> logger.error(format, arguments);
+            case WARN -> logger.warn(format, arguments);
+            case INFO -> logger.info(format, arguments);
+            case DEBUG -> logger.debug(format, arguments);
+            case TRACE -> logger.trace(format, arguments);
+        }
+        return true;
+    }
+
+    /**
+     * Log one summary per key with messages suppressed since the last call.
+     *
+     * @return Number of suppressed messages reported
+     */
+    public long flushSummaries() {
+        long reported = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long suppressed = bucket.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                String sample = bucket.sampleCorrelationId.getAndSet(null);
+                logger.warn("Suppressed {} log messages for {} (sample correlationId={})",
+                        suppressed, entry.getKey(), sample);
+                reported += suppressed;
+            }
+        }
+        return reported;
+    }
+
+    /**
+     * Number of messages suppressed since creation.
+     */
+    public long getSuppressedCount() {
+        return suppressedTotal.sum();
+    }
+
+    /**
+     * Number of tracked keys, including the overflow key.
+     */
+    int getKeyCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Stop the summary thread and report what is still pending.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+        flushSummaries();
+    }
+
+    private Bucket bucket(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        long now = nanoClock.getAsLong();
+        // Bounded so that unexpected keys cannot grow the map without limit; the slot is
+        // reserved inside computeIfAbsent, so concurrent first-seen keys cannot overshoot
+        if (keyCount.get() < MAX_KEYS) {
+            bucket = buckets.computeIfAbsent(key, k -> {
+                if (keyCount.incrementAndGet() > MAX_KEYS) {
+                    keyCount.decrementAndGet();
+                    return null;
+                }
+                return new Bucket(now);
+            });
+            if (bucket != null) {
+                return bucket;
+            }
+        }
+        return buckets.computeIfAbsent(OVERFLOW_KEY, k -> new Bucket(now));
+    }
+
+    /**
+     * Token bucket in its GCRA form: one timestamp per key instead of a token
+     * count and a refill time, so acquiring is a single CAS.
+     */
+    private static final class Bucket {
+
+        // Time at which the bucket is full again
+        private final AtomicLong theoreticalArrival;
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicReference<String> sampleCorrelationId = new AtomicReference<>();
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean tryAcquire(long now, long intervalNanos, long toleranceNanos) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long base = arrival - now > 0 ? arrival : now;
+                if (base - now > toleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+
+        void suppress(String correlationId) {
+            suppressed.increment();
+            if (correlationId != null && sampleCorrelationId.get() == null) {
+                sampleCorrelationId.compareAndSet(null, correlationId);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.paymentchain.common.metrics;
+
+/**
+ * Counts handled exceptions per exception type and HTTP status.
+ *
+ * Implementations must be thread-safe and should not allocate on the
+ * recording path once a type/status pair has been seen.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface ErrorRecorder {
+
+    /**
+     * Record one handled exception.
+     *
+     * @param type   Exception type
+     * @param status HTTP status of the error response
+     */
+    void record(Class<? extends Throwable> type, int status);
+}
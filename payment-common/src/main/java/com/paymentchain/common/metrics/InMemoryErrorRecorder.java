@@ -0,0 +1,44 @@
+package com.paymentchain.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ErrorRecorder} that keeps one counter per exception type and status
+ * in memory, for services without Micrometer.
+ *
+ * @author benas
+ */
+public class InMemoryErrorRecorder implements ErrorRecorder {
+
+    private final RouteStatusTable<LongAdder> counters =
+            new RouteStatusTable<>((type, status) -> new LongAdder());
+
+    @Override
+    public void record(Class<? extends Throwable> type, int status) {
+        counters.get(type.getName(), status).increment();
+    }
+
+    /**
+     * Number of exceptions of exactly this type answered with the given status.
+     */
+    public long getCount(Class<? extends Throwable> type, int status) {
+        LongAdder counter = counters.find(type.getName(), status);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * Counts of all exception types, keyed by class name then status.
+     */
+    public Map<String, Map<Integer, Long>> getCounts() {
+        Map<String, Map<Integer, Long>> counts = new TreeMap<>();
+        for (String type : counters.routes()) {
+            Map<Integer, Long> byStatus = new LinkedHashMap<>();
+            counters.forEach(type, (status, counter) -> byStatus.put(status, counter.sum()));
+            counts.put(type, byStatus);
+        }
+        return counts;
+    }
+}
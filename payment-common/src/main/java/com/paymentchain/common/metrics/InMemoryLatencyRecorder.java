@@ -0,0 +1,43 @@
+package com.paymentchain.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link LatencyRecorder} that keeps one {@link LatencyHistogram} per route
+ * and status in memory, for services without Micrometer.
+ *
+ * @author benas
+ */
+public class InMemoryLatencyRecorder implements LatencyRecorder {
+
+    private final RouteStatusTable<LatencyHistogram> histograms =
+            new RouteStatusTable<>((route, status) -> new LatencyHistogram());
+
+    @Override
+    public void record(String route, int status, long durationNanos) {
+        histograms.get(route, status).record(durationNanos);
+    }
+
+    /**
+     * Snapshot of one route and status, or null if nothing was recorded for it.
+     */
+    public LatencySnapshot getSnapshot(String route, int status) {
+        LatencyHistogram histogram = histograms.find(route, status);
+        return histogram != null ? histogram.snapshot() : null;
+    }
+
+    /**
+     * Snapshots of all routes, keyed by route then status.
+     */
+    public Map<String, Map<Integer, LatencySnapshot>> getSnapshots() {
+        Map<String, Map<Integer, LatencySnapshot>> snapshots = new TreeMap<>();
+        for (String route : histograms.routes()) {
+            Map<Integer, LatencySnapshot> byStatus = new LinkedHashMap<>();
+            histograms.forEach(route, (status, histogram) -> byStatus.put(status, histogram.snapshot()));
+            snapshots.put(route, byStatus);
+        }
+        return snapshots;
+    }
+}
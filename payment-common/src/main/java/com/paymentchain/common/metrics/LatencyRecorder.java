@@ -0,0 +1,22 @@
+package com.paymentchain.common.metrics;
+
+/**
+ * Records request latency per route and HTTP status.
+ *
+ * Implementations must be thread-safe and should not allocate on the
+ * recording path once a route/status pair has been seen.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface LatencyRecorder {
+
+    /**
+     * Record one request.
+     *
+     * @param route         Route template (e.g. "/api/transactions/{id}"), not the raw URI
+     * @param status        HTTP status code
+     * @param durationNanos Duration measured with {@link System#nanoTime()}
+     */
+    void record(String route, int status, long durationNanos);
+}
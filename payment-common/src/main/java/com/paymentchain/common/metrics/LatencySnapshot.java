@@ -0,0 +1,96 @@
+package com.paymentchain.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}, with percentile queries.
+ *
+ * Percentiles are reported as the midpoint of the bucket holding the
+ * requested rank, capped at the recorded maximum. Ranks in the overflow
+ * bucket report the maximum.
+ *
+ * @author benas
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * Value at the given percentile, in nanoseconds.
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Value, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                if (i == counts.length - 1) {
+                    // Overflow bucket: only the maximum is known
+                    return maxNanos;
+                }
+                long value = LatencyHistogram.bucketLowerBound(i) + LatencyHistogram.bucketWidth(i) / 2;
+                return Math.min(value, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP99Nanos() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public long getP999Nanos() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Value at the given percentile, converted to the given unit.
+     */
+    public double getValueAtPercentile(double percentile, TimeUnit unit) {
+        return (double) getValueAtPercentile(percentile) / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + count
+                + ", p50=" + getP50Nanos()
+                + "ns, p99=" + getP99Nanos()
+                + "ns, p999=" + getP999Nanos()
+                + "ns, max=" + maxNanos + "ns}";
+    }
+}
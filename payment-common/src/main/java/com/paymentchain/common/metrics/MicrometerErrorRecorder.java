@@ -0,0 +1,31 @@
+package com.paymentchain.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link ErrorRecorder} that publishes to a Micrometer {@link MeterRegistry}
+ * as the {@code http.server.errors} counter, tagged with the exception's
+ * simple name and the status. Counters are cached per type and status.
+ *
+ * @author benas
+ */
+public class MicrometerErrorRecorder implements ErrorRecorder {
+
+    static final String METER_NAME = "http.server.errors";
+
+    private final RouteStatusTable<Counter> counters;
+
+    public MicrometerErrorRecorder(MeterRegistry registry) {
+        this.counters = new RouteStatusTable<>((type, status) -> Counter.builder(METER_NAME)
+                .description("Exceptions handled by GlobalExceptionHandler")
+                .tag("exception", type.substring(type.lastIndexOf('.') + 1))
+                .tag("status", Integer.toString(status))
+                .register(registry));
+    }
+
+    @Override
+    public void record(Class<? extends Throwable> type, int status) {
+        counters.get(type.getName(), status).increment();
+    }
+}
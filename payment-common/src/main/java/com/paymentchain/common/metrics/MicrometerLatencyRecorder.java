@@ -0,0 +1,34 @@
+package com.paymentchain.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LatencyRecorder} that publishes to a Micrometer {@link MeterRegistry}
+ * as the {@code http.server.latency} timer, tagged with route and status,
+ * with p50/p99/p999 percentiles. Timers are cached per route and status.
+ *
+ * @author benas
+ */
+public class MicrometerLatencyRecorder implements LatencyRecorder {
+
+    static final String METER_NAME = "http.server.latency";
+
+    private final RouteStatusTable<Timer> timers;
+
+    public MicrometerLatencyRecorder(MeterRegistry registry) {
+        this.timers = new RouteStatusTable<>((route, status) -> Timer.builder(METER_NAME)
+                .description("Request latency measured by the payment-common filter chain")
+                .tag("route", route)
+                .tag("status", Integer.toString(status))
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry));
+    }
+
+    @Override
+    public void record(String route, int status, long durationNanos) {
+        timers.get(route, status).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,79 @@
+package com.paymentchain.common.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Route to status to meter lookup that does not allocate once an entry exists:
+ * routes are looked up by their String key and statuses index a fixed array.
+ *
+ * @param <M> The per-route, per-status meter type
+ * @author benas
+ */
+final class RouteStatusTable<M> {
+
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
+    @FunctionalInterface
+    interface MeterFactory<M> {
+        M create(String route, int status);
+    }
+
+    private final ConcurrentMap<String, AtomicReferenceArray<M>> routes = new ConcurrentHashMap<>();
+    private final MeterFactory<M> factory;
+
+    RouteStatusTable(MeterFactory<M> factory) {
+        this.factory = factory;
+    }
+
+    M get(String route, int status) {
+        AtomicReferenceArray<M> statuses = routes.get(route);
+        if (statuses == null) {
+            statuses = routes.computeIfAbsent(route,
+                    key -> new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1));
+        }
+        // Out-of-range codes (e.g. 0 when no status was set) share the lowest slot
+        int clamped = Math.min(Math.max(status, MIN_STATUS), MAX_STATUS);
+        int index = clamped - MIN_STATUS;
+        M meter = statuses.get(index);
+        if (meter == null) {
+            M created = factory.create(route, clamped);
+            meter = statuses.compareAndExchange(index, null, created);
+            if (meter == null) {
+                meter = created;
+            }
+        }
+        return meter;
+    }
+
+    /**
+     * Existing meter for the route and status, or null.
+     */
+    M find(String route, int status) {
+        AtomicReferenceArray<M> statuses = routes.get(route);
+        if (statuses == null || status < MIN_STATUS || status > MAX_STATUS) {
+            return null;
+        }
+        return statuses.get(status - MIN_STATUS);
+    }
+
+    void forEach(String route, BiConsumer<Integer, M> action) {
+        AtomicReferenceArray<M> statuses = routes.get(route);
+        if (statuses == null) {
+            return;
+        }
+        for (int i = 0; i < statuses.length(); i++) {
+            M meter = statuses.get(i);
+            if (meter != null) {
+                action.accept(MIN_STATUS + i, meter);
+            }
+        }
+    }
+
+    Iterable<String> routes() {
+        return routes.keySet();
+    }
+}
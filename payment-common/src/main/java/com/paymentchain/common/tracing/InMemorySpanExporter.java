@@ -0,0 +1,30 @@
+package com.paymentchain.common.tracing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link SpanExporter} that keeps spans in memory, for tests.
+ *
+ * @author benas
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final List<ServerSpan> spans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void export(ServerSpan span) {
+        spans.add(span);
+    }
+
+    /**
+     * Spans exported so far, in export order.
+     */
+    public List<ServerSpan> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public void reset() {
+        spans.clear();
+    }
+}
@@ -0,0 +1,74 @@
+package com.paymentchain.common.tracing;
+
+/**
+ * Timing of one server-side request, as handed to a {@link SpanExporter}.
+ *
+ * @author benas
+ */
+public final class ServerSpan {
+
+    private final TraceParent context;
+    private final TraceParent parent;
+    private final String name;
+    private final long startEpochMillis;
+    private final long durationNanos;
+    private final int status;
+
+    public ServerSpan(TraceParent context, TraceParent parent, String name,
+                      long startEpochMillis, long durationNanos, int status) {
+        this.context = context;
+        this.parent = parent;
+        this.name = name;
+        this.startEpochMillis = startEpochMillis;
+        this.durationNanos = durationNanos;
+        this.status = status;
+    }
+
+    /**
+     * Trace context of this span, as emitted downstream.
+     */
+    public TraceParent getContext() {
+        return context;
+    }
+
+    public String getTraceId() {
+        return context.getTraceId();
+    }
+
+    public String getSpanId() {
+        return context.getParentId();
+    }
+
+    /**
+     * Span id of the caller, or null for a root span.
+     */
+    public String getParentSpanId() {
+        return parent != null ? parent.getParentId() : null;
+    }
+
+    /**
+     * Span name: HTTP method and route template.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSpan{name=" + name + ", traceId=" + getTraceId() + ", spanId=" + getSpanId()
+                + ", parentSpanId=" + getParentSpanId() + ", status=" + status
+                + ", durationNanos=" + durationNanos + "}";
+    }
+}
@@ -0,0 +1,13 @@
+package com.paymentchain.common.tracing;
+
+/**
+ * Receives finished server spans. Called on the request thread, so
+ * implementations should hand off any I/O.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    void export(ServerSpan span);
+}
@@ -0,0 +1,211 @@
+package com.paymentchain.common.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * W3C Trace Context {@code traceparent} value: version 00, 128-bit trace id,
+ * 64-bit parent (span) id and trace flags.
+ *
+ * Parsing works on the header characters directly, with no regex and no
+ * intermediate strings; ids are kept as longs and only turned into hex when
+ * formatted.
+ *
+ * @author benas
+ */
+public final class TraceParent {
+
+    /** Name of the HTTP header carrying the value. */
+    public static final String HEADER = "traceparent";
+
+    /** Name of the HTTP header carrying vendor-specific trace state. */
+    public static final String STATE_HEADER = "tracestate";
+
+    /** Maximum tracestate length accepted for propagation (W3C limit). */
+    public static final int MAX_STATE_LENGTH = 512;
+
+    static final int LENGTH = 55;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final byte FLAG_SAMPLED = 0x01;
+
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long parentId;
+    private final byte flags;
+
+    private TraceParent(long traceIdHigh, long traceIdLow, long parentId, byte flags) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.parentId = parentId;
+        this.flags = flags;
+    }
+
+    /**
+     * Start a new sampled trace with random ids.
+     */
+    public static TraceParent newRoot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high;
+        long low;
+        do {
+            high = random.nextLong();
+            low = random.nextLong();
+        } while (high == 0 && low == 0);
+        return new TraceParent(high, low, newSpanId(), FLAG_SAMPLED);
+    }
+
+    /**
+     * Same trace and flags with a new random parent id, for the span handling this request.
+     */
+    public TraceParent child() {
+        return new TraceParent(traceIdHigh, traceIdLow, newSpanId(), flags);
+    }
+
+    /**
+     * Parse a traceparent header value.
+     *
+     * @param value Header value, may be null
+     * @return Parsed value, or null if the value is missing or invalid
+     */
+    public static TraceParent parse(CharSequence value) {
+        if (value == null || value.length() < LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean valid = i == 2 || i == 35 || i == 52 ? c == '-' : hexValue(c) >= 0;
+            if (!valid) {
+                return null;
+            }
+        }
+        int version = (int) parseHex(value, 0, 2);
+        // Version ff is forbidden; future versions may append fields after a dash
+        if (version == 0xFF || (version == 0 && value.length() != LENGTH)
+                || (value.length() > LENGTH && value.charAt(LENGTH) != '-')) {
+            return null;
+        }
+        long traceIdHigh = parseHex(value, 3, 16);
+        long traceIdLow = parseHex(value, 19, 16);
+        long parentId = parseHex(value, 36, 16);
+        if ((traceIdHigh == 0 && traceIdLow == 0) || parentId == 0) {
+            return null;
+        }
+        return new TraceParent(traceIdHigh, traceIdLow, parentId, (byte) parseHex(value, 53, 2));
+    }
+
+    /**
+     * Validate a tracestate header for pass-through propagation.
+     *
+     * @return The value, or null if it is missing, blank or too long
+     */
+    public static String sanitizeState(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_STATE_LENGTH) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                return null;
+            }
+        }
+        return value.isBlank() ? null : value;
+    }
+
+    /**
+     * Format as a version 00 header value.
+     */
+    public String format() {
+        char[] out = new char[LENGTH];
+        out[0] = '0';
+        out[1] = '0';
+        out[2] = '-';
+        writeHex(traceIdHigh, 16, out, 3);
+        writeHex(traceIdLow, 16, out, 19);
+        out[35] = '-';
+        writeHex(parentId, 16, out, 36);
+        out[52] = '-';
+        writeHex(flags, 2, out, 53);
+        return new String(out);
+    }
+
+    /**
+     * Trace id as 32 lowercase hex chars.
+     */
+    public String getTraceId() {
+        char[] out = new char[32];
+        writeHex(traceIdHigh, 16, out, 0);
+        writeHex(traceIdLow, 16, out, 16);
+        return new String(out);
+    }
+
+    /**
+     * Parent (span) id as 16 lowercase hex chars.
+     */
+    public String getParentId() {
+        char[] out = new char[16];
+        writeHex(parentId, 16, out, 0);
+        return new String(out);
+    }
+
+    public boolean isSampled() {
+        return (flags & FLAG_SAMPLED) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TraceParent that)) {
+            return false;
+        }
+        return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow
+                && parentId == that.parentId && flags == that.flags;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(traceIdHigh) * 31 + Long.hashCode(traceIdLow) * 17 + Long.hashCode(parentId) + flags;
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static long newSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        // Uppercase hex is not allowed by the specification
+        return -1;
+    }
+
+    /**
+     * Parse already validated lowercase hex digits.
+     */
+    private static long parseHex(CharSequence value, int offset, int digits) {
+        long result = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            result = (result << 4) | hexValue(value.charAt(i));
+        }
+        return result;
+    }
+
+    private static void writeHex(long value, int digits, char[] out, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+}
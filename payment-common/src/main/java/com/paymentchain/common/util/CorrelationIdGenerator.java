@@ -0,0 +1,106 @@
+package com.paymentchain.common.util;
+
+import com.paymentchain.domain.model.event.UuidV7EventIdGenerator;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Strategy for generating correlation IDs.
+ *
+ * All generators except {@link #secureRandom()} avoid SecureRandom, so they
+ * do not contend under high request rates, and format their output straight
+ * into a char array.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface CorrelationIdGenerator {
+
+    /**
+     * Generate a new correlation ID.
+     */
+    String nextId();
+
+    /**
+     * Random 128-bit ids in UUIDv4 format, from {@link ThreadLocalRandom}.
+     */
+    static CorrelationIdGenerator random() {
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return IdFormat.uuid(mostSigBits, leastSigBits);
+        };
+    }
+
+    /**
+     * Time-ordered UUIDv7 ids, monotonic within this generator.
+     */
+    static CorrelationIdGenerator uuidV7() {
+        UuidV7EventIdGenerator generator = new UuidV7EventIdGenerator(Clock.systemUTC());
+        return () -> {
+            UUID uuid = generator.nextUuid();
+            return IdFormat.uuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        };
+    }
+
+    /**
+     * Time-ordered ULIDs: 26 Crockford base32 chars, millisecond timestamp first.
+     */
+    static CorrelationIdGenerator ulid() {
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            char[] out = new char[IdFormat.ULID_LENGTH];
+            IdFormat.writeUlid(System.currentTimeMillis(), random.nextLong(), random.nextLong(), out, 0);
+            return new String(out);
+        };
+    }
+
+    /**
+     * Ids made of a node prefix and a 64-bit hex sequence, e.g. {@code node-1-0189f0c2a4e00001}.
+     * The sequence starts from the current time, so it keeps increasing across restarts.
+     *
+     * @param nodeId Identifier of this instance, unique within the deployment
+     */
+    static CorrelationIdGenerator nodeSequence(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalArgumentException("Node id cannot be null or empty");
+        }
+        char[] prefix = (nodeId + "-").toCharArray();
+        AtomicLong sequence = new AtomicLong(System.currentTimeMillis() << 20);
+        return () -> {
+            char[] out = new char[prefix.length + 16];
+            System.arraycopy(prefix, 0, out, 0, prefix.length);
+            IdFormat.writeHex(sequence.incrementAndGet(), 16, out, prefix.length);
+            return new String(out);
+        };
+    }
+
+    /**
+     * Random UUIDv4 ids backed by SecureRandom, the historical default.
+     */
+    static CorrelationIdGenerator secureRandom() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * Resolve a generator by name: random, uuid-v7, ulid, node-sequence or secure-random.
+     *
+     * @param name   Generator name, case-insensitive
+     * @param nodeId Node id, only used by node-sequence
+     */
+    static CorrelationIdGenerator of(String name, String nodeId) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "random" -> random();
+            case "uuid-v7" -> uuidV7();
+            case "ulid" -> ulid();
+            case "node-sequence" -> nodeSequence(nodeId);
+            case "secure-random" -> secureRandom();
+            default -> throw new IllegalArgumentException("Unknown correlation ID generator: " + name);
+        };
+    }
+}
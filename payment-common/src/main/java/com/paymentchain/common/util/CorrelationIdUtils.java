@@ -2,8 +2,6 @@ package com.paymentchain.common.util;
 
 import org.slf4j.MDC;
 
-import java.util.UUID;
-
 /**
  * Utility class for managing correlation IDs across requests.
  *
@@ -14,15 +12,35 @@ public class CorrelationIdUtils {
     private static final String CORRELATION_ID_KEY = "correlationId";
     private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
 
+    private static volatile CorrelationIdGenerator generator = CorrelationIdGenerator.random();
+
     private CorrelationIdUtils() {
         throw new UnsupportedOperationException("Utility class");
     }
 
     /**
-     * Generate a new correlation ID.
+     * Generate a new correlation ID with the configured generator.
      */
     public static String generateCorrelationId() {
-        return UUID.randomUUID().toString();
+        return generator.nextId();
+    }
+
+    /**
+     * Get the generator used by {@link #generateCorrelationId()}.
+     */
+    public static CorrelationIdGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Set the generator used by {@link #generateCorrelationId()}.
+     * Defaults to {@link CorrelationIdGenerator#random()}.
+     */
+    public static void setGenerator(CorrelationIdGenerator correlationIdGenerator) {
+        if (correlationIdGenerator == null) {
+            throw new IllegalArgumentException("Correlation ID generator cannot be null");
+        }
+        generator = correlationIdGenerator;
     }
 
     /**
@@ -0,0 +1,85 @@
+package com.paymentchain.common.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keyset pagination position: the sort key values of the last row returned,
+ * in sort order (for example the creation timestamp followed by the id as a
+ * tie breaker).
+ *
+ * The next page is read with {@code WHERE (created_at, id) < (?, ?) ORDER BY
+ * created_at DESC, id DESC LIMIT size + 1}, which costs the same at any depth.
+ * Turn cursors into opaque tokens with {@link CursorCodec}.
+ *
+ * @author benas
+ */
+public final class Cursor {
+
+    private final String[] keys;
+
+    private Cursor(String[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Create a cursor from sort key values, stored as their string form.
+     *
+     * @param keys At least one non-null key value
+     */
+    public static Cursor of(Object... keys) {
+        if (keys == null || keys.length == 0) {
+            throw new IllegalArgumentException("Cursor needs at least one key");
+        }
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                throw new IllegalArgumentException("Cursor key " + i + " is null");
+            }
+            values[i] = keys[i].toString();
+        }
+        return new Cursor(values);
+    }
+
+    static Cursor ofStrings(String[] keys) {
+        return new Cursor(keys);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String get(int index) {
+        return keys[index];
+    }
+
+    public long getLong(int index) {
+        return Long.parseLong(keys[index]);
+    }
+
+    public Instant getInstant(int index) {
+        return Instant.parse(keys[index]);
+    }
+
+    public List<String> getKeys() {
+        return List.of(keys);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cursor)) return false;
+        return Arrays.equals(keys, ((Cursor) o).keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keys);
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor" + Arrays.toString(keys);
+    }
+}
@@ -0,0 +1,158 @@
+package com.paymentchain.common.util;
+
+import com.paymentchain.common.exception.InvalidRequestException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes {@link Cursor}s as opaque, tamper-evident continuation tokens.
+ *
+ * A token is the URL-safe Base64 form of a version byte, a truncated
+ * HMAC-SHA256 tag and the UTF-8 key values. Tokens are not encrypted: they
+ * keep clients from forging positions, not from reading them. Tokens only
+ * verify with the same secret, so every instance of a service must share it.
+ *
+ * Instances are thread-safe; each thread reuses its own {@link Mac}.
+ *
+ * @author benas
+ */
+public class CursorCodec {
+
+    static final int MIN_SECRET_LENGTH = 16;
+    static final int MAX_TOKEN_LENGTH = 1024;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int TAG_LENGTH = 16;
+    private static final int HEADER_LENGTH = 1 + TAG_LENGTH;
+    private static final char SEPARATOR = '\u001F';
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * @param secret HMAC key, at least 16 bytes
+     */
+    public CursorCodec(byte[] secret) {
+        if (secret == null || secret.length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("Cursor secret must be at least " + MIN_SECRET_LENGTH + " bytes");
+        }
+        this.key = new SecretKeySpec(secret.clone(), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        newMac();
+    }
+
+    /**
+     * Encode a cursor as a token.
+     *
+     * @throws IllegalArgumentException if a key contains the U+001F separator
+     */
+    public String encode(Cursor cursor) {
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < cursor.size(); i++) {
+            String value = cursor.get(i);
+            if (value.indexOf(SEPARATOR) >= 0) {
+                throw new IllegalArgumentException("Cursor key " + i + " contains a unit separator");
+            }
+            if (i > 0) {
+                payload.append(SEPARATOR);
+            }
+            payload.append(value);
+        }
+        byte[] body = payload.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] token = new byte[HEADER_LENGTH + body.length];
+        token[0] = VERSION;
+        System.arraycopy(body, 0, token, HEADER_LENGTH, body.length);
+        System.arraycopy(tag(token), 0, token, 1, TAG_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Encode the given sort key values as a token.
+     */
+    public String encode(Object... keys) {
+        return encode(Cursor.of(keys));
+    }
+
+    /**
+     * Decode and verify a token.
+     *
+     * @throws InvalidRequestException if the token is malformed, was not issued
+     *                                 with this secret or has been altered
+     */
+    public Cursor decode(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw invalid();
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != VERSION) {
+            throw invalid();
+        }
+        byte[] expected = tag(bytes);
+        byte[] actual = new byte[TAG_LENGTH];
+        System.arraycopy(bytes, 1, actual, 0, TAG_LENGTH);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw invalid();
+        }
+        String payload = new String(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+        return Cursor.ofStrings(split(payload));
+    }
+
+    /**
+     * Decode a token if present.
+     *
+     * @return The cursor, or null for a null or blank token (first page)
+     */
+    public Cursor decodeOrNull(String token) {
+        return token == null || token.isBlank() ? null : decode(token);
+    }
+
+    // Tag over the version byte and the payload, skipping the tag slot itself
+    private byte[] tag(byte[] token) {
+        Mac mac = macs.get();
+        mac.update(token, 0, 1);
+        mac.update(token, HEADER_LENGTH, token.length - HEADER_LENGTH);
+        byte[] full = mac.doFinal();
+        byte[] tag = new byte[TAG_LENGTH];
+        System.arraycopy(full, 0, tag, 0, TAG_LENGTH);
+        return tag;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+
+    private static String[] split(String payload) {
+        List<String> keys = new ArrayList<>(4);
+        int start = 0;
+        int end;
+        while ((end = payload.indexOf(SEPARATOR, start)) >= 0) {
+            keys.add(payload.substring(start, end));
+            start = end + 1;
+        }
+        keys.add(payload.substring(start));
+        return keys.toArray(new String[0]);
+    }
+
+    private static InvalidRequestException invalid() {
+        return new InvalidRequestException("Invalid pagination cursor");
+    }
+}
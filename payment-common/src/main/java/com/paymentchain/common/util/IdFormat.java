@@ -0,0 +1,72 @@
+package com.paymentchain.common.util;
+
+/**
+ * Allocation-light formatting of identifiers into caller-provided char arrays.
+ *
+ * @author benas
+ */
+final class IdFormat {
+
+    static final int UUID_LENGTH = 36;
+    static final int ULID_LENGTH = 26;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private IdFormat() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Write the canonical 8-4-4-4-12 form of a UUID into {@code out} at {@code offset}.
+     */
+    static void writeUuid(long mostSigBits, long leastSigBits, char[] out, int offset) {
+        writeHex(mostSigBits >>> 32, 8, out, offset);
+        out[offset + 8] = '-';
+        writeHex(mostSigBits >>> 16, 4, out, offset + 9);
+        out[offset + 13] = '-';
+        writeHex(mostSigBits, 4, out, offset + 14);
+        out[offset + 18] = '-';
+        writeHex(leastSigBits >>> 48, 4, out, offset + 19);
+        out[offset + 23] = '-';
+        writeHex(leastSigBits, 12, out, offset + 24);
+    }
+
+    static String uuid(long mostSigBits, long leastSigBits) {
+        char[] out = new char[UUID_LENGTH];
+        writeUuid(mostSigBits, leastSigBits, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * Write the low {@code digits} nibbles of {@code value} as lowercase hex.
+     */
+    static void writeHex(long value, int digits, char[] out, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * Write a ULID (48-bit millisecond timestamp, 80 random bits) as 26 Crockford base32 chars.
+     */
+    static void writeUlid(long millis, long randomHigh16, long randomLow64, char[] out, int offset) {
+        // 10 chars of timestamp (50 bits, top 2 always zero)
+        for (int i = offset + 9; i >= offset; i--) {
+            out[i] = CROCKFORD[(int) millis & 0x1F];
+            millis >>>= 5;
+        }
+        // 16 chars of randomness: 12 from the low 60 bits, then 4 from the remaining 20
+        long low = randomLow64;
+        for (int i = offset + 25; i >= offset + 14; i--) {
+            out[i] = CROCKFORD[(int) low & 0x1F];
+            low >>>= 5;
+        }
+        long high = ((randomHigh16 & 0xFFFF) << 4) | low;
+        for (int i = offset + 13; i >= offset + 10; i--) {
+            out[i] = CROCKFORD[(int) high & 0x1F];
+            high >>>= 5;
+        }
+    }
+}
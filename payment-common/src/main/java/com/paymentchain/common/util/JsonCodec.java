@@ -0,0 +1,174 @@
+package com.paymentchain.common.util;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Typed JSON handle for one Java type, obtained from {@link JsonCodecRegistry}.
+ *
+ * Holds an {@link ObjectReader} and {@link ObjectWriter} pre-resolved for the
+ * type, so each call skips type resolution and serializer lookup. Values of a
+ * subclass are written with runtime type resolution, so their extra properties
+ * are kept. Byte output goes through a per-thread reusable buffer. When the
+ * registry is bound to another ObjectMapper, existing handles switch to it.
+ * Thread-safe.
+ *
+ * @param <T> The handled type
+ * @author benas
+ */
+public final class JsonCodec<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonCodec.class);
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<ByteArrayBuilder> OUTPUT_BUFFER =
+            ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+    private final JavaType type;
+    private volatile Handles handles;
+
+    JsonCodec(ObjectMapper mapper, JavaType type) {
+        this.type = type;
+        this.handles = new Handles(mapper, type);
+    }
+
+    /**
+     * Re-resolve the reader and writers against another mapper.
+     */
+    void bind(ObjectMapper mapper) {
+        handles = new Handles(mapper, type);
+    }
+
+    public JavaType getType() {
+        return type;
+    }
+
+    public ObjectReader getReader() {
+        return handles.reader;
+    }
+
+    public ObjectWriter getWriter() {
+        return handles.writer;
+    }
+
+    /**
+     * Convert value to JSON string.
+     */
+    public String toJson(T value) {
+        try {
+            return handles.writerFor(value).writeValueAsString(value);
+        } catch (IOException e) {
+            logger.error("Error converting object to JSON", e);
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+
+    /**
+     * Convert value to pretty JSON string.
+     */
+    public String toPrettyJson(T value) {
+        try {
+            return handles.prettyWriterFor(value).writeValueAsString(value);
+        } catch (IOException e) {
+            logger.error("Error converting object to pretty JSON", e);
+            throw new RuntimeException("Failed to convert object to pretty JSON", e);
+        }
+    }
+
+    /**
+     * Convert value to JSON bytes, reusing this thread's output buffer.
+     */
+    public byte[] toJsonBytes(T value) {
+        ByteArrayBuilder buffer = OUTPUT_BUFFER.get();
+        // Taken out of the thread local while in use, in case a serializer calls back into a codec
+        OUTPUT_BUFFER.set(null);
+        if (buffer == null) {
+            buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        }
+        try {
+            handles.writerFor(value).writeValue(buffer, value);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            logger.error("Error converting object to JSON bytes", e);
+            throw new RuntimeException("Failed to convert object to JSON bytes", e);
+        } finally {
+            buffer.reset();
+            OUTPUT_BUFFER.set(buffer);
+        }
+    }
+
+    /**
+     * Convert JSON string to value.
+     */
+    public T fromJson(String json) {
+        try {
+            return handles.reader.readValue(json);
+        } catch (IOException e) {
+            logger.error("Error converting JSON to object", e);
+            throw new RuntimeException("Failed to convert JSON to object", e);
+        }
+    }
+
+    /**
+     * Convert JSON string to value, returning null if parsing fails.
+     */
+    public T fromJsonSafe(String json) {
+        try {
+            return handles.reader.readValue(json);
+        } catch (IOException e) {
+            logger.warn("Failed to parse JSON, returning null", e);
+            return null;
+        }
+    }
+
+    /**
+     * Convert JSON bytes to value.
+     */
+    public T fromJsonBytes(byte[] bytes) {
+        try {
+            return handles.reader.readValue(bytes);
+        } catch (Exception e) {
+            logger.error("Error converting JSON bytes to object", e);
+            throw new RuntimeException("Failed to convert JSON bytes to object", e);
+        }
+    }
+
+    /**
+     * Reader and writers resolved against one mapper, swapped as a unit on rebind.
+     */
+    private static final class Handles {
+
+        private final Class<?> rawType;
+        private final ObjectReader reader;
+        private final ObjectWriter writer;
+        private final ObjectWriter prettyWriter;
+        private final ObjectWriter runtimeWriter;
+        private final ObjectWriter runtimePrettyWriter;
+
+        Handles(ObjectMapper mapper, JavaType type) {
+            this.rawType = type.getRawClass();
+            this.reader = mapper.readerFor(type);
+            this.runtimeWriter = mapper.writer();
+            this.runtimePrettyWriter = runtimeWriter.withDefaultPrettyPrinter();
+            // Abstract root types would hide subclass properties, so they keep runtime type resolution
+            this.writer = type.isAbstract() || type.isJavaLangObject() ? runtimeWriter : mapper.writerFor(type);
+            this.prettyWriter = writer.withDefaultPrettyPrinter();
+        }
+
+        ObjectWriter writerFor(Object value) {
+            // A subclass instance would lose its own properties through the declared type's serializer
+            return value == null || value.getClass() == rawType ? writer : runtimeWriter;
+        }
+
+        ObjectWriter prettyWriterFor(Object value) {
+            return value == null || value.getClass() == rawType ? prettyWriter : runtimePrettyWriter;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.paymentchain.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Registry of {@link JsonCodec} handles bound to one ObjectMapper.
+ *
+ * Codecs are created once per type, either up front through
+ * {@link #register(Class[])} (e.g. at startup) or lazily on first use, and
+ * then shared. At most {@code maxSize} codecs are cached; beyond that, codecs
+ * are created per call, so dynamically generated types cannot grow the cache
+ * without bound. {@link #bind(ObjectMapper)} switches the registry and all
+ * cached codecs to another mapper. Thread-safe.
+ *
+ * @author benas
+ */
+public final class JsonCodecRegistry {
+
+    /** Default number of cached codecs. */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonCodecRegistry.class);
+
+    private final int maxSize;
+    private final ConcurrentMap<Type, JsonCodec<?>> codecs = new ConcurrentHashMap<>();
+    private volatile ObjectMapper objectMapper;
+    private volatile boolean fullReported;
+
+    public JsonCodecRegistry(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_MAX_SIZE);
+    }
+
+    public JsonCodecRegistry(ObjectMapper objectMapper, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Switch to another mapper. Cached codecs, including handles already held
+     * by callers, re-resolve their readers and writers against it.
+     */
+    public synchronized void bind(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (JsonCodec<?> codec : codecs.values()) {
+            codec.bind(objectMapper);
+        }
+    }
+
+    /**
+     * Pre-resolve codecs for the given types.
+     */
+    public JsonCodecRegistry register(Class<?>... types) {
+        for (Class<?> type : types) {
+            codec(type);
+        }
+        return this;
+    }
+
+    /**
+     * Get the codec for a class, creating it on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<T> codec(Class<T> type) {
+        JsonCodec<?> codec = codecs.get(type);
+        if (codec == null) {
+            codec = create(type, mapper -> mapper.constructType(type));
+        }
+        return (JsonCodec<T>) codec;
+    }
+
+    /**
+     * Get the codec for a generic type, creating it on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonCodec<T> codec(TypeReference<T> typeReference) {
+        Type type = typeReference.getType();
+        JsonCodec<?> codec = codecs.get(type);
+        if (codec == null) {
+            codec = create(type, mapper -> mapper.constructType(typeReference));
+        }
+        return (JsonCodec<T>) codec;
+    }
+
+    /**
+     * Types with a resolved codec.
+     */
+    public Set<Type> getRegisteredTypes() {
+        return Set.copyOf(codecs.keySet());
+    }
+
+    private JsonCodec<?> create(Type type, Function<ObjectMapper, JavaType> typeResolver) {
+        if (codecs.size() >= maxSize) {
+            if (!fullReported) {
+                fullReported = true;
+                logger.warn("JSON codec cache is full ({} types), creating uncached codecs from now on", maxSize);
+            }
+            ObjectMapper mapper = objectMapper;
+            return new JsonCodec<>(mapper, typeResolver.apply(mapper));
+        }
+        return codecs.computeIfAbsent(type, key -> {
+            ObjectMapper mapper = objectMapper;
+            return new JsonCodec<>(mapper, typeResolver.apply(mapper));
+        });
+    }
+}
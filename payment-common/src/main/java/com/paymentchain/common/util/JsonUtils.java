@@ -3,26 +3,33 @@ package com.paymentchain.common.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.paymentchain.common.config.JacksonConfig;
+import com.paymentchain.common.config.JsonProfile;
+import com.paymentchain.common.dto.ApiResponse;
+import com.paymentchain.common.dto.ErrorResponse;
+import com.paymentchain.common.dto.HealthResponse;
+import com.paymentchain.common.dto.PageResponse;
+import com.paymentchain.common.dto.ValidationError;
 
 /**
  * Utility class for JSON serialization and deserialization.
  *
+ * Delegates to cached {@link JsonCodec} handles, so repeated conversions of the
+ * same type reuse pre-resolved readers and writers. Common DTOs are registered
+ * up front; other types (e.g. events) on first use or via {@link #register(Class[])}.
+ *
+ * Inside Spring, {@link JacksonConfig} binds this class to the application
+ * ObjectMapper, so both share one serializer cache. Outside Spring, a mapper
+ * with the same COMPACT settings is used.
+ *
  * @author benas
  */
 public class JsonUtils {
 
-    private static final Logger logger = LoggerFactory.getLogger(JsonUtils.class);
-    private static final ObjectMapper objectMapper;
-
-    static {
-        objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    }
+    private static final JsonCodecRegistry codecs = new JsonCodecRegistry(
+            JacksonConfig.createObjectMapper(JsonProfile.COMPACT, false))
+            .register(ApiResponse.class, ErrorResponse.class, PageResponse.class,
+                    HealthResponse.class, ValidationError.class);
 
     private JsonUtils() {
         throw new UnsupportedOperationException("Utility class");
@@ -32,7 +39,46 @@ public class JsonUtils {
      * Get the shared ObjectMapper instance.
      */
     public static ObjectMapper getObjectMapper() {
-        return objectMapper;
+        return codecs.getObjectMapper();
+    }
+
+    /**
+     * Bind to the given ObjectMapper, typically the application one.
+     * Codecs already handed out switch to the new mapper as well.
+     *
+     * @param objectMapper The mapper to use from now on
+     */
+    public static synchronized void bind(ObjectMapper objectMapper) {
+        if (codecs.getObjectMapper() != objectMapper) {
+            codecs.bind(objectMapper);
+        }
+    }
+
+    /**
+     * Get the shared codec registry.
+     */
+    public static JsonCodecRegistry getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * Get the cached codec for a type.
+     *
+     * @param clazz The handled class
+     * @param <T>   The handled type
+     * @return Codec with pre-resolved reader and writer
+     */
+    public static <T> JsonCodec<T> codec(Class<T> clazz) {
+        return codecs.codec(clazz);
+    }
+
+    /**
+     * Pre-resolve codecs for the given types, e.g. all event classes at startup.
+     *
+     * @param types The classes to register
+     */
+    public static void register(Class<?>... types) {
+        codecs.register(types);
     }
 
     /**
@@ -42,12 +88,7 @@ public class JsonUtils {
      * @return JSON string representation
      */
     public static String toJson(Object obj) {
-        try {
-            return objectMapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting object to JSON", e);
-            throw new RuntimeException("Failed to convert object to JSON", e);
-        }
+        return codecOf(obj).toJson(obj);
     }
 
     /**
@@ -57,12 +98,7 @@ public class JsonUtils {
      * @return Pretty-printed JSON string representation
      */
     public static String toPrettyJson(Object obj) {
-        try {
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting object to pretty JSON", e);
-            throw new RuntimeException("Failed to convert object to pretty JSON", e);
-        }
+        return codecOf(obj).toPrettyJson(obj);
     }
 
     /**
@@ -74,12 +110,7 @@ public class JsonUtils {
      * @return Deserialized object
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(json, clazz);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting JSON to object", e);
-            throw new RuntimeException("Failed to convert JSON to object", e);
-        }
+        return codecs.codec(clazz).fromJson(json);
     }
 
     /**
@@ -91,12 +122,7 @@ public class JsonUtils {
      * @return Deserialized object
      */
     public static <T> T fromJson(String json, TypeReference<T> typeReference) {
-        try {
-            return objectMapper.readValue(json, typeReference);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting JSON to object", e);
-            throw new RuntimeException("Failed to convert JSON to object", e);
-        }
+        return codecs.codec(typeReference).fromJson(json);
     }
 
     /**
@@ -108,12 +134,7 @@ public class JsonUtils {
      * @return Deserialized object or null if parsing fails
      */
     public static <T> T fromJsonSafe(String json, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(json, clazz);
-        } catch (JsonProcessingException e) {
-            logger.warn("Failed to parse JSON, returning null", e);
-            return null;
-        }
+        return codecs.codec(clazz).fromJsonSafe(json);
     }
 
     /**
@@ -127,7 +148,7 @@ public class JsonUtils {
             return false;
         }
         try {
-            objectMapper.readTree(json);
+            codecs.getObjectMapper().readTree(json);
             return true;
         } catch (JsonProcessingException e) {
             return false;
@@ -141,12 +162,7 @@ public class JsonUtils {
      * @return JSON byte array
      */
     public static byte[] toJsonBytes(Object obj) {
-        try {
-            return objectMapper.writeValueAsBytes(obj);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting object to JSON bytes", e);
-            throw new RuntimeException("Failed to convert object to JSON bytes", e);
-        }
+        return codecOf(obj).toJsonBytes(obj);
     }
 
     /**
@@ -158,11 +174,12 @@ public class JsonUtils {
      * @return Deserialized object
      */
     public static <T> T fromJsonBytes(byte[] bytes, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(bytes, clazz);
-        } catch (Exception e) {
-            logger.error("Error converting JSON bytes to object", e);
-            throw new RuntimeException("Failed to convert JSON bytes to object", e);
-        }
+        return codecs.codec(clazz).fromJsonBytes(bytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JsonCodec<Object> codecOf(Object obj) {
+        Class<?> type = obj == null ? Object.class : obj.getClass();
+        return (JsonCodec<Object>) codecs.codec(type);
     }
 }
@@ -0,0 +1,113 @@
+package com.paymentchain.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paymentchain.common.dto.NdjsonResponse;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import com.paymentchain.common.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes {@link NdjsonResponse} bodies as {@code application/x-ndjson}.
+ *
+ * Records are serialized one per line and the output is flushed every
+ * {@link NdjsonResponse#getChunkSize()} records. The correlation ID is added as
+ * a response header when no filter has set it. When the client goes away the
+ * failed write stops the export: the record stream is closed, no further
+ * records are read, and the cancellation is only logged.
+ *
+ * @author benas
+ */
+public class NdjsonHttpMessageConverter extends AbstractHttpMessageConverter<NdjsonResponse<?>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonHttpMessageConverter.class);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType(NdjsonResponse.MEDIA_TYPE);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Converter using the mapper bound to {@link JsonUtils} at write time.
+     */
+    public NdjsonHttpMessageConverter() {
+        this(null);
+    }
+
+    public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(NDJSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return NdjsonResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected NdjsonResponse<?> readInternal(Class<? extends NdjsonResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("NDJSON responses cannot be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(NdjsonResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        addCorrelationIdHeader(outputMessage.getHeaders());
+
+        ObjectMapper mapper = objectMapper != null ? objectMapper : JsonUtils.getObjectMapper();
+        ObjectWriter writer = mapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(SerializationFeature.INDENT_OUTPUT);
+        int chunkSize = response.getChunkSize();
+
+        long written = 0;
+        try (Stream<?> records = response.openContent()) {
+            OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(body)) {
+                generator.setRootValueSeparator(null);
+                Iterator<?> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    generator.writeRaw('\n');
+                    if (++written % chunkSize == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // Broken pipe or client abort: nothing more can be sent
+            logger.debug("NDJSON response cancelled by client after {} records: {}", written, e.getMessage());
+            return;
+        }
+        logger.debug("NDJSON response completed with {} records", written);
+    }
+
+    private static void addCorrelationIdHeader(HttpHeaders headers) {
+        String header = CorrelationIdUtils.getCorrelationIdHeader();
+        String correlationId = CorrelationIdUtils.getCorrelationId();
+        if (correlationId != null && !headers.containsKey(header)) {
+            headers.set(header, correlationId);
+        }
+    }
+}
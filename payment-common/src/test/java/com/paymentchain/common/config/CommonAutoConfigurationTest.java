@@ -0,0 +1,61 @@
+package com.paymentchain.common.config;
+
+import com.paymentchain.common.util.CursorCodec;
+import com.paymentchain.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CommonAutoConfiguration.
+ *
+ * @author benas
+ */
+class CommonAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(CommonAutoConfiguration.class);
+
+    @Test
+    void shouldKeepStackTracesByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(DomainException.isStackTraceEnabled()).isTrue();
+            assertThat(new DomainException("rejected").getStackTrace()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void shouldRestoreStackTraceSettingWhenContextCloses() {
+        // Act & Assert: the opt-out only applies while the context is open
+        contextRunner.withPropertyValues("payment-common.exceptions.stack-traces=false").run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(new DomainException("rejected").getStackTrace()).isEmpty();
+        });
+
+        assertThat(DomainException.isStackTraceEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldFailFastWhenCursorCodecHasNoSecret() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThatThrownBy(() -> context.getBean(CursorCodec.class))
+                    .hasRootCauseInstanceOf(IllegalStateException.class)
+                    .hasStackTraceContaining("payment-common.pagination.cursor-secret");
+        });
+    }
+
+    @Test
+    void shouldCreateCursorCodecFromSecretOrExplicitEphemeralKey() {
+        contextRunner.withPropertyValues("payment-common.pagination.cursor-secret=0123456789abcdef-shared")
+                .run(context -> assertThat(context.getBean(CursorCodec.class)).isNotNull());
+
+        contextRunner.withPropertyValues("payment-common.pagination.ephemeral-cursor-secret=true")
+                .run(context -> assertThat(context.getBean(CursorCodec.class)).isNotNull());
+    }
+}
@@ -0,0 +1,64 @@
+package com.paymentchain.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paymentchain.common.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for JacksonConfig.
+ *
+ * @author benas
+ */
+class JacksonConfigTest {
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private final ErrorResponse response = ErrorResponse.builder()
+            .timestamp(Instant.parse("2024-11-18T10:30:00Z"))
+            .status(404)
+            .error("Not Found")
+            .build();
+
+    @Test
+    void shouldWriteCompactJsonInCompactProfile() throws Exception {
+        // Arrange
+        ObjectMapper mapper = JacksonConfig.createObjectMapper(JsonProfile.COMPACT, false);
+
+        // Act
+        String json = mapper.writeValueAsString(response);
+
+        // Assert
+        assertThat(json).isEqualTo("{\"timestamp\":\"2024-11-18T10:30:00.000Z\",\"status\":404,"
+                + "\"error\":\"Not Found\",\"validationErrors\":[]}");
+    }
+
+    @Test
+    void shouldPrettyPrintInDebugProfile() throws Exception {
+        // Arrange
+        ObjectMapper mapper = JacksonConfig.createObjectMapper(JsonProfile.DEBUG, false);
+
+        // Act
+        String json = mapper.writeValueAsString(response);
+
+        // Assert
+        assertThat(json).contains(System.lineSeparator()).contains("  \"status\" : 404");
+        assertThat(mapper.readTree(json))
+                .isEqualTo(JacksonConfig.createObjectMapper(JsonProfile.COMPACT, false).valueToTree(response));
+    }
+
+    @Test
+    void shouldRegisterBlackbirdOnlyWhenEnabled() throws Exception {
+        // Arrange
+        ObjectMapper withBlackbird = JacksonConfig.createObjectMapper(JsonProfile.COMPACT, true);
+        ObjectMapper withoutBlackbird = JacksonConfig.createObjectMapper(JsonProfile.COMPACT, false);
+
+        // Assert
+        assertThat(withBlackbird.getRegisteredModuleIds()).contains(BLACKBIRD_MODULE);
+        assertThat(withoutBlackbird.getRegisteredModuleIds()).doesNotContain(BLACKBIRD_MODULE);
+        assertThat(withBlackbird.writeValueAsString(response)).isEqualTo(withoutBlackbird.writeValueAsString(response));
+    }
+}
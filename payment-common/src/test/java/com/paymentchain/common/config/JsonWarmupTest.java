@@ -0,0 +1,74 @@
+package com.paymentchain.common.config;
+
+import com.paymentchain.common.config.warmup.WarmupFailure;
+import com.paymentchain.common.config.warmup.WarmupHelper;
+import com.paymentchain.common.config.warmup.WarmupPayload;
+import com.paymentchain.common.util.JsonUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for JsonWarmup and JsonWarmupMetrics.
+ *
+ * @author benas
+ */
+class JsonWarmupTest {
+
+    private static final String FIXTURES = "com.paymentchain.common.config.warmup";
+
+    @Test
+    void shouldWarmOnlyTypesWithJsonProperties() {
+        // Arrange
+        JsonWarmup warmup = new JsonWarmup(List.of(FIXTURES), Duration.ofSeconds(30));
+
+        // Act
+        int warmed = warmup.warmUp();
+
+        // Assert
+        assertThat(warmed).isEqualTo(1);
+        assertThat(warmup.getWarmedTypeCount()).isEqualTo(1);
+        assertThat(warmup.getDurationMillis()).isNotNegative();
+        assertThat(JsonUtils.getCodecs().getRegisteredTypes())
+                .contains(WarmupPayload.class)
+                .doesNotContain(WarmupFailure.class, WarmupHelper.class);
+    }
+
+    @Test
+    void shouldStopWhenBudgetIsExhausted() {
+        // Arrange: the scan alone already exceeds a zero budget
+        JsonWarmup warmup = new JsonWarmup(List.of(FIXTURES, "com.paymentchain.common.dto"), Duration.ZERO);
+
+        // Act
+        int warmed = warmup.warmUp();
+
+        // Assert
+        assertThat(warmed).isZero();
+        assertThat(warmup.getWarmedTypeCount()).isZero();
+        assertThat(warmup.getDurationMillis()).isNotNegative();
+    }
+
+    @Test
+    void shouldPublishWarmupMeters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JsonWarmup warmup = new JsonWarmup(List.of(FIXTURES), Duration.ofSeconds(30));
+        new JsonWarmupMetrics(warmup).bindTo(registry);
+
+        // Assert: bound before the run, the duration is not known yet
+        assertThat(registry.get(JsonWarmupMetrics.DURATION_METER_NAME).timeGauge().value()).isNaN();
+
+        // Act
+        warmup.warmUp();
+
+        // Assert
+        assertThat(registry.get(JsonWarmupMetrics.TYPES_METER_NAME).gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get(JsonWarmupMetrics.DURATION_METER_NAME).timeGauge().value(TimeUnit.MILLISECONDS))
+                .isEqualTo(warmup.getDurationMillis());
+    }
+}
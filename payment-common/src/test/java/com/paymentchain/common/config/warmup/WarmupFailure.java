@@ -0,0 +1,11 @@
+package com.paymentchain.common.config.warmup;
+
+/**
+ * Exception sharing a package with payloads, skipped by the warm-up scan.
+ */
+public class WarmupFailure extends RuntimeException {
+
+    public WarmupFailure() {
+        super("warm-up fixture");
+    }
+}
@@ -0,0 +1,11 @@
+package com.paymentchain.common.config.warmup;
+
+/**
+ * Helper without JSON properties, skipped by the warm-up scan.
+ */
+public class WarmupHelper {
+
+    public static String normalize(String value) {
+        return value.trim();
+    }
+}
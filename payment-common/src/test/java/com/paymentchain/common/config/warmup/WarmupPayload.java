@@ -0,0 +1,17 @@
+package com.paymentchain.common.config.warmup;
+
+/**
+ * JSON payload picked up by the warm-up scan in JsonWarmupTest.
+ */
+public class WarmupPayload {
+
+    private String reference;
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+}
@@ -0,0 +1,105 @@
+package com.paymentchain.common.context;
+
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CorrelationContext and ContextPropagation.
+ *
+ * @author benas
+ */
+class ContextPropagationTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = ContextPropagation.wrap(Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        CorrelationIdUtils.clearCorrelationId();
+    }
+
+    @Test
+    void shouldRestorePreviousContextWhenScopeCloses() {
+        // Arrange
+        CorrelationContext outer = CorrelationContext.of("outer");
+
+        // Act & Assert
+        try (Scope ignored = outer.makeCurrent()) {
+            try (Scope nested = CorrelationContext.of("inner").with("tenant", "t1").makeCurrent()) {
+                assertThat(CorrelationContext.current().getAttribute("tenant")).isEqualTo("t1");
+                assertThat(CorrelationIdUtils.getCorrelationId()).isEqualTo("inner");
+            }
+            assertThat(CorrelationContext.current()).isSameAs(outer);
+            assertThat(CorrelationIdUtils.getCorrelationId()).isEqualTo("outer");
+        }
+        assertThat(CorrelationContext.current()).isSameAs(CorrelationContext.EMPTY);
+        assertThat(CorrelationIdUtils.getCorrelationId()).isNull();
+    }
+
+    @Test
+    void shouldPropagateContextToExecutorTasks() throws Exception {
+        // Arrange
+        Future<String> result;
+
+        // Act
+        try (Scope ignored = CorrelationContext.of("req-1").with("tenant", "t1").makeCurrent()) {
+            result = executor.submit(() -> CorrelationIdUtils.getCorrelationId()
+                + "/" + CorrelationContext.current().getAttribute("tenant"));
+        }
+
+        // Assert
+        assertThat(result.get()).isEqualTo("req-1/t1");
+        assertThat(executor.submit(CorrelationIdUtils::getCorrelationId).get()).isNull();
+    }
+
+    @Test
+    void shouldPropagateContextThroughCompletableFutures() {
+        // Act
+        CompletableFuture<String> future;
+        try (Scope ignored = CorrelationContext.of("req-2").makeCurrent()) {
+            future = CompletableFuture.supplyAsync(
+                ContextPropagation.wrapSupplier(() -> CorrelationContext.current().getCorrelationId()), executor);
+        }
+
+        // Assert
+        assertThat(future.join()).isEqualTo("req-2");
+    }
+
+    @Test
+    void shouldCaptureCorrelationIdSetThroughMdc() throws Exception {
+        // Arrange
+        CorrelationIdUtils.setCorrelationId("from-mdc");
+        List<Callable<String>> tasks = List.of(CorrelationIdUtils::getCorrelationId);
+
+        // Act
+        List<Future<String>> results = executor.invokeAll(tasks);
+
+        // Assert
+        assertThat(results.get(0).get()).isEqualTo("from-mdc");
+    }
+
+    @Test
+    void shouldPassThroughTasksWithoutContext() {
+        // Arrange
+        Runnable task = () -> { };
+
+        // Act & Assert
+        assertThat(ContextPropagation.wrap(task)).isSameAs(task);
+    }
+}
@@ -0,0 +1,67 @@
+package com.paymentchain.common.dto;
+
+import com.paymentchain.common.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CursorPageResponse.
+ *
+ * @author benas
+ */
+class CursorPageResponseTest {
+
+    @Test
+    void shouldTrimExtraRowAndSetNextCursor() {
+        // Arrange: fetched with LIMIT size + 1
+        List<Integer> rows = Arrays.asList(10, 20, 30, 40);
+
+        // Act
+        CursorPageResponse<Integer> response = CursorPageResponse.of(rows, 3, row -> "after-" + row);
+
+        // Assert
+        assertThat(response.getContent()).containsExactly(10, 20, 30);
+        assertThat(response.getSize()).isEqualTo(3);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo("after-30");
+        assertThat(response.getNumberOfElements()).isEqualTo(3);
+        assertThat(response.isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldHaveNoNextCursorOnLastSlice() {
+        // Act
+        CursorPageResponse<Integer> partial = CursorPageResponse.of(Arrays.asList(10, 20), 3, row -> "after-" + row);
+        CursorPageResponse<Integer> empty = CursorPageResponse.of(Collections.emptyList(), 3, row -> "after-" + row);
+
+        // Assert
+        assertThat(partial.isHasNext()).isFalse();
+        assertThat(partial.getNextCursor()).isNull();
+        assertThat(partial.getContent()).containsExactly(10, 20);
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.isHasNext()).isFalse();
+    }
+
+    @Test
+    void shouldCreateWithBuilderAndSerializeWithoutTotals() {
+        // Act
+        CursorPageResponse<String> response = CursorPageResponse.<String>builder()
+                .content(List.of("a", "b"))
+                .size(2)
+                .nextCursor("token")
+                .build();
+        String json = JsonUtils.toJson(response);
+
+        // Assert
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(json).contains("\"hasNext\":true", "\"nextCursor\":\"token\"")
+            .doesNotContain("total");
+        assertThatThrownBy(() -> CursorPageResponse.of(List.of(), 0, String::valueOf))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
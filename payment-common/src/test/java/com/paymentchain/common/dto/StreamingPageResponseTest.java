@@ -0,0 +1,137 @@
+package com.paymentchain.common.dto;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paymentchain.common.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for StreamingPageResponse.
+ *
+ * @author benas
+ */
+class StreamingPageResponseTest {
+
+    private final ObjectMapper mapper = JsonUtils.getObjectMapper();
+
+    @Test
+    void shouldSerializeLikePageResponse() throws Exception {
+        // Arrange
+        StreamingPageResponse<String> response = StreamingPageResponse.<String>builder()
+                .content(() -> Stream.of("item1", "item2"))
+                .pageNumber(0)
+                .pageSize(10)
+                .totalElements(2)
+                .build();
+
+        // Act
+        String json = mapper.writeValueAsString(response);
+
+        // Assert
+        assertThat(json).isEqualTo("{\"pageNumber\":0,\"pageSize\":10,\"totalElements\":2,\"totalPages\":1,"
+            + "\"content\":[\"item1\",\"item2\"],\"first\":true,\"last\":true,\"empty\":false,\"numberOfElements\":2}");
+    }
+
+    @Test
+    void shouldMatchPageResponseTotalsAndOmitThemWhenUnknown() throws Exception {
+        // Arrange
+        StreamingPageResponse<String> middle = StreamingPageResponse.<String>builder()
+                .content(() -> Stream.of("item3", "item4"))
+                .pageNumber(1)
+                .pageSize(2)
+                .totalElements(5)
+                .build();
+        PageResponse<String> expected = new PageResponse<>(List.of("item3", "item4"), 1, 2, 5);
+
+        // Act
+        JsonNode streamed = mapper.readTree(mapper.writeValueAsString(middle));
+        String unknownTotal = mapper.writeValueAsString(StreamingPageResponse.of(() -> Stream.of("item1")));
+
+        // Assert
+        assertThat(streamed).isEqualTo(mapper.readTree(mapper.writeValueAsString(expected)));
+        assertThat(unknownTotal).doesNotContain("totalPages").doesNotContain("\"last\"");
+    }
+
+    @Test
+    void shouldStreamElementsAndCloseSource() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicLong written = new AtomicLong();
+        OutputStream counting = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+        AtomicLong writtenWhenLastPulled = new AtomicLong();
+        StreamingPageResponse<Integer> response = StreamingPageResponse.of(() -> IntStream.range(0, 100_000)
+                .peek(i -> writtenWhenLastPulled.set(written.get()))
+                .boxed()
+                .onClose(() -> closed.set(true)));
+
+        // Act
+        mapper.writeValue(counting, response);
+
+        // Assert: most of the output reached the stream before the last element was pulled
+        assertThat(closed).isTrue();
+        assertThat(written.get()).isGreaterThan(500_000);
+        assertThat(writtenWhenLastPulled.get()).isGreaterThan(written.get() / 2);
+        assertThat(response.getTotalElements()).isNull();
+    }
+
+    @Test
+    void shouldCloseIteratorEvenWhenSerializationFails() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        StreamingPageResponse<Object> response = StreamingPageResponse.builder()
+                .iterator(() -> new ClosingIterator(List.of("ok", new Object()).iterator(), closed))
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> mapper.writeValue(new ByteArrayOutputStream(), response))
+            .isInstanceOf(JsonMappingException.class);
+        assertThat(closed).isTrue();
+    }
+
+    private static final class ClosingIterator implements Iterator<Object>, AutoCloseable {
+        private final Iterator<?> delegate;
+        private final AtomicBoolean closed;
+
+        ClosingIterator(Iterator<?> delegate, AtomicBoolean closed) {
+            this.delegate = delegate;
+            this.closed = closed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.paymentchain.common.exception;
+
+import com.paymentchain.common.logging.RateLimitedLogger;
+import com.paymentchain.common.metrics.InMemoryErrorRecorder;
+import com.paymentchain.domain.exception.BusinessRuleException;
+import com.paymentchain.domain.exception.DomainException;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the JSON error bodies written by GlobalExceptionHandler.
+ *
+ * @author benas
+ */
+class GlobalExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void shouldWriteDomainErrorBody() throws Exception {
+        mockMvc.perform(get("/fail/domain"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.*", hasSize(6)))
+                .andExpect(jsonPath("$.timestamp", matchesPattern("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{3}Z")))
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.error", is("Domain Error")))
+                .andExpect(jsonPath("$.message", is("Insufficient funds")))
+                .andExpect(jsonPath("$.path", is("/fail/domain")))
+                .andExpect(jsonPath("$.validationErrors", empty()));
+    }
+
+    @Test
+    void shouldWriteBusinessRuleAndNotFoundBodies() throws Exception {
+        mockMvc.perform(get("/fail/rule"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.status", is(422)))
+                .andExpect(jsonPath("$.error", is("Business Rule Violation")))
+                .andExpect(jsonPath("$.message", is("Daily limit exceeded")));
+
+        mockMvc.perform(get("/fail/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.error", is("Not Found")))
+                .andExpect(jsonPath("$.message", is("Customer not found")))
+                .andExpect(jsonPath("$.validationErrors", empty()));
+    }
+
+    @Test
+    void shouldWriteInvalidRequestBodies() throws Exception {
+        mockMvc.perform(get("/fail/invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Bad Request")))
+                .andExpect(jsonPath("$.message", is("Invalid request")))
+                .andExpect(jsonPath("$.validationErrors", empty()));
+
+        mockMvc.perform(get("/fail/invalid-fields"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[*].message", contains("amount is required")));
+    }
+
+    @Test
+    void shouldWriteValidationFailedBody() throws Exception {
+        mockMvc.perform(post("/fail/validated").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Validation Failed")))
+                .andExpect(jsonPath("$.message", is("Input validation error")))
+                .andExpect(jsonPath("$.validationErrors", hasSize(1)))
+                .andExpect(jsonPath("$.validationErrors[0].field", is("name")))
+                .andExpect(jsonPath("$.validationErrors[0].code", is("NotBlank")))
+                .andExpect(jsonPath("$.validationErrors[0].rejectedValue", is("")));
+    }
+
+    @Test
+    void shouldHideUnexpectedErrorDetails() throws Exception {
+        mockMvc.perform(get("/fail/unexpected"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status", is(500)))
+                .andExpect(jsonPath("$.error", is("Internal Server Error")))
+                .andExpect(jsonPath("$.message", is("An unexpected error occurred. Please try again later.")))
+                .andExpect(jsonPath("$.path", is("/fail/unexpected")));
+    }
+
+    @Test
+    void shouldCountEveryErrorButRateLimitItsLogLines() throws Exception {
+        // Arrange
+        InMemoryErrorRecorder errorRecorder = new InMemoryErrorRecorder();
+        RateLimitedLogger rateLimitedLogger =
+                new RateLimitedLogger(LoggerFactory.getLogger(GlobalExceptionHandler.class), 0.001, 1);
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        handler.setErrorRecorder(errorRecorder);
+        handler.setRateLimitedLogger(rateLimitedLogger);
+        MockMvc limitedMockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+                .setControllerAdvice(handler)
+                .build();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            limitedMockMvc.perform(get("/fail/domain")).andExpect(status().isBadRequest());
+        }
+        limitedMockMvc.perform(get("/fail/missing")).andExpect(status().isNotFound());
+
+        // Assert: one line per exception type, the repeats only counted
+        assertThat(errorRecorder.getCount(DomainException.class, 400)).isEqualTo(3);
+        assertThat(errorRecorder.getCount(ResourceNotFoundException.class, 404)).isEqualTo(1);
+        assertThat(rateLimitedLogger.getSuppressedCount()).isEqualTo(2);
+        assertThat(rateLimitedLogger.flushSummaries()).isEqualTo(2);
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/fail/domain")
+        String domain() {
+            throw new DomainException("Insufficient funds");
+        }
+
+        @GetMapping("/fail/rule")
+        String rule() {
+            throw new BusinessRuleException("DAILY_LIMIT", "Daily limit exceeded");
+        }
+
+        @GetMapping("/fail/missing")
+        String missing() {
+            throw new ResourceNotFoundException("Customer not found");
+        }
+
+        @GetMapping("/fail/invalid")
+        String invalid() {
+            throw new InvalidRequestException("Invalid request");
+        }
+
+        @GetMapping("/fail/invalid-fields")
+        String invalidFields() {
+            throw new InvalidRequestException("Invalid request", List.of("amount is required"));
+        }
+
+        @PostMapping("/fail/validated")
+        String validated(@Valid @RequestBody NamedRequest request) {
+            return request.getName();
+        }
+
+        @GetMapping("/fail/unexpected")
+        String unexpected() {
+            throw new IllegalStateException("database password leaked");
+        }
+    }
+
+    static class NamedRequest {
+
+        @NotBlank
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.paymentchain.common.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for BoundedCaptureResponseWrapper.
+ *
+ * @author benas
+ */
+class BoundedCaptureResponseWrapperTest {
+
+    @Test
+    void shouldDrainWriterWithoutCommittingResponse() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BoundedCaptureResponseWrapper wrapper = new BoundedCaptureResponseWrapper(response, 100);
+        wrapper.getWriter().print("pending");
+
+        // Act
+        wrapper.flushWriter();
+
+        // Assert
+        assertThat(response.getContentAsString()).isEqualTo("pending");
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(new String(wrapper.getCapturedContent(), StandardCharsets.ISO_8859_1)).isEqualTo("pending");
+    }
+
+    @Test
+    void shouldDiscardBufferedOutputAndCaptureOnReset() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BoundedCaptureResponseWrapper wrapper = new BoundedCaptureResponseWrapper(response, 100);
+        PrintWriter writer = wrapper.getWriter();
+        writer.print("discarded");
+
+        // Act
+        wrapper.resetBuffer();
+        writer.print("kept");
+        wrapper.flushBuffer();
+
+        // Assert
+        assertThat(response.getContentAsString()).isEqualTo("kept");
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(new String(wrapper.getCapturedContent(), StandardCharsets.ISO_8859_1)).isEqualTo("kept");
+        assertThat(wrapper.getTotalLength()).isEqualTo(4);
+    }
+}
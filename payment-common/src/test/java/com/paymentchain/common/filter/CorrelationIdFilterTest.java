@@ -0,0 +1,140 @@
+package com.paymentchain.common.filter;
+
+import com.paymentchain.common.context.CorrelationContext;
+import com.paymentchain.common.tracing.InMemorySpanExporter;
+import com.paymentchain.common.tracing.ServerSpan;
+import com.paymentchain.common.tracing.TraceParent;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CorrelationIdFilter.
+ *
+ * @author benas
+ */
+class CorrelationIdFilterTest {
+
+    private static final String PARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @Test
+    void shouldContinueParentTraceWhenTracingIsEnabled() throws Exception {
+        // Arrange
+        CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        filter.setSpanExporter(exporter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/payments");
+        request.addHeader(TraceParent.HEADER, PARENT);
+        request.addHeader(TraceParent.STATE_HEADER, "vendor=value");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> {
+            seen.set(CorrelationContext.current());
+            ((HttpServletResponse) res).setStatus(201);
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert: a child span of the caller's, visible to the chain, the client and the exporter
+        TraceParent span = TraceParent.parse(response.getHeader(TraceParent.HEADER));
+        assertThat(span.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(span.format()).isNotEqualTo(PARENT);
+        assertThat(response.getHeader(TraceParent.STATE_HEADER)).isEqualTo("vendor=value");
+        assertThat(response.getHeader(CorrelationIdUtils.getCorrelationIdHeader()))
+            .isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(seen.get().getAttribute(TraceParent.HEADER)).isEqualTo(span.format());
+        assertThat(seen.get().getAttribute(TraceParent.STATE_HEADER)).isEqualTo("vendor=value");
+
+        assertThat(exporter.getSpans()).hasSize(1);
+        ServerSpan exported = exporter.getSpans().get(0);
+        assertThat(exported.getContext()).isEqualTo(span);
+        assertThat(exported.getParentSpanId()).isEqualTo("b7ad6b7169203331");
+        assertThat(exported.getName()).isEqualTo("GET UNMATCHED");
+        assertThat(exported.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void shouldStartNewTraceWhenTracingIsEnabled() throws Exception {
+        // Arrange
+        CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        filter.setSpanExporter(exporter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/payments"), response, (req, res) -> { });
+
+        // Assert
+        TraceParent span = TraceParent.parse(response.getHeader(TraceParent.HEADER));
+        assertThat(span).isNotNull();
+        assertThat(response.getHeader(CorrelationIdUtils.getCorrelationIdHeader())).isEqualTo("generated");
+        assertThat(exporter.getSpans()).extracting(ServerSpan::getContext).containsExactly(span);
+        assertThat(exporter.getSpans().get(0).getParentSpanId()).isNull();
+    }
+
+    @Test
+    void shouldPassParentTraceThroughWhenTracingIsDisabled() throws Exception {
+        // Arrange
+        CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/payments");
+        request.addHeader(TraceParent.HEADER, PARENT);
+        request.addHeader(TraceParent.STATE_HEADER, "vendor=value");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> seen.set(CorrelationContext.current()));
+
+        // Assert
+        assertThat(response.getHeader(TraceParent.HEADER)).isEqualTo(PARENT);
+        assertThat(response.getHeader(TraceParent.STATE_HEADER)).isEqualTo("vendor=value");
+        assertThat(seen.get().getAttribute(TraceParent.HEADER)).isEqualTo(PARENT);
+        assertThat(seen.get().getCorrelationId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    }
+
+    @Test
+    void shouldNotStartTraceWhenTracingIsDisabled() throws Exception {
+        // Arrange
+        CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/payments"), response,
+            (req, res) -> seen.set(CorrelationContext.current()));
+
+        // Assert
+        assertThat(response.getHeader(TraceParent.HEADER)).isNull();
+        assertThat(response.getHeader(CorrelationIdUtils.getCorrelationIdHeader())).isEqualTo("generated");
+        assertThat(seen.get().getCorrelationId()).isEqualTo("generated");
+        assertThat(seen.get().getAttributes()).isEmpty();
+    }
+
+    @Test
+    void shouldExportServerErrorSpanWhenChainThrows() throws Exception {
+        // Arrange
+        CorrelationIdFilter filter = new CorrelationIdFilter(() -> "generated");
+        InMemorySpanExporter exporter = new InMemorySpanExporter();
+        filter.setSpanExporter(exporter);
+        FilterChain chain = (req, res) -> {
+            throw new ServletException("boom");
+        };
+
+        // Act
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/payments"),
+                new MockHttpServletResponse(), chain))
+            .isInstanceOf(ServletException.class);
+
+        // Assert: the container answers 500, not the 200 still on the response
+        assertThat(exporter.getSpans()).extracting(ServerSpan::getStatus).containsExactly(500);
+    }
+}
@@ -0,0 +1,166 @@
+package com.paymentchain.common.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.paymentchain.common.metrics.InMemoryLatencyRecorder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for LoggingFilter.
+ *
+ * @author benas
+ */
+class LoggingFilterTest {
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(LoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = filterLogger.getLevel();
+        filterLogger.setLevel(Level.DEBUG);
+        appender.start();
+        filterLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(appender);
+        filterLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void shouldDeliverWriterOutputWhenBodyIsNotSampled() throws Exception {
+        // Arrange
+        LoggingFilter filter = new LoggingFilter(0.0, 1000, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> res.getWriter().write("{\"status\":\"ok\"}");
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/health"), response, chain);
+
+        // Assert
+        assertThat(response.getContentAsString()).isEqualTo("{\"status\":\"ok\"}");
+        assertThat(bodyLogs()).isEmpty();
+    }
+
+    @Test
+    void shouldLogSampledBodyUpToLimit() throws Exception {
+        // Arrange
+        LoggingFilter filter = new LoggingFilter(1.0, 5, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> res.getOutputStream().write("hello world".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/greeting"), response, chain);
+
+        // Assert: the client gets everything, the log only the first 5 bytes
+        assertThat(response.getContentAsString()).isEqualTo("hello world");
+        assertThat(bodyLogs()).containsExactly("Response Body: hello", "Response body truncated (5 of 11 bytes)");
+    }
+
+    @Test
+    void shouldLogErrorAndIncludedPathBodiesWhenNotSampled() throws Exception {
+        // Arrange
+        LoggingFilter filter = new LoggingFilter(0.0, 1000, List.of("/api/payments"));
+
+        // Act & Assert
+        for (String[] scenario : new String[][]{{"/api/orders", "500"}, {"/api/payments/1", "200"}, {"/api/orders", "200"}}) {
+            appender.list.clear();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            int status = Integer.parseInt(scenario[1]);
+            FilterChain chain = (req, res) -> {
+                ((HttpServletResponse) res).setStatus(status);
+                res.getWriter().print("body");
+            };
+            filter.doFilter(new MockHttpServletRequest("GET", scenario[0]), response, chain);
+
+            assertThat(response.getContentAsString()).isEqualTo("body");
+            boolean expectLogged = status >= 400 || scenario[0].startsWith("/api/payments");
+            assertThat(bodyLogs()).as(scenario[0] + " " + status)
+                .isEqualTo(expectLogged ? List.of("Response Body: body") : List.of());
+        }
+    }
+
+    @Test
+    void shouldNotWrapResponseWhenDebugIsOff() throws Exception {
+        // Arrange
+        filterLogger.setLevel(Level.INFO);
+        LoggingFilter filter = new LoggingFilter(1.0, 1000, List.of());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> assertThat(res).isSameAs(response);
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/health"), response, chain);
+
+        // Assert
+        assertThat(bodyLogs()).isEmpty();
+    }
+
+    @Test
+    void shouldRecordServerErrorWhenChainThrowsBeforeCommit() throws Exception {
+        // Arrange
+        filterLogger.setLevel(Level.INFO);
+        InMemoryLatencyRecorder recorder = new InMemoryLatencyRecorder();
+        LoggingFilter filter = new LoggingFilter();
+        filter.setLatencyRecorder(recorder);
+        FilterChain chain = (req, res) -> {
+            throw new ServletException("boom");
+        };
+
+        // Act
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+                new MockHttpServletResponse(), chain))
+            .isInstanceOf(ServletException.class);
+
+        // Assert: the container would answer 500, not the 200 still on the response
+        assertThat(recorder.getSnapshots().get(Routes.UNMATCHED_ROUTE)).containsOnlyKeys(500);
+        assertThat(appender.list)
+            .anyMatch(event -> event.getLevel() == Level.ERROR
+                && event.getFormattedMessage().contains("Status: 500"));
+    }
+
+    @Test
+    void shouldRecordCommittedStatusWhenChainThrowsAfterCommit() throws Exception {
+        // Arrange
+        InMemoryLatencyRecorder recorder = new InMemoryLatencyRecorder();
+        LoggingFilter filter = new LoggingFilter();
+        filter.setLatencyRecorder(recorder);
+        FilterChain chain = (req, res) -> {
+            res.getWriter().print("partial");
+            res.flushBuffer();
+            throw new ServletException("boom");
+        };
+
+        // Act
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"),
+                new MockHttpServletResponse(), chain))
+            .isInstanceOf(ServletException.class);
+
+        // Assert
+        assertThat(recorder.getSnapshots().get(Routes.UNMATCHED_ROUTE)).containsOnlyKeys(200);
+    }
+
+    private List<String> bodyLogs() {
+        return appender.list.stream()
+            .map(ILoggingEvent::getFormattedMessage)
+            .filter(message -> message.startsWith("Response"))
+            .toList();
+    }
+}
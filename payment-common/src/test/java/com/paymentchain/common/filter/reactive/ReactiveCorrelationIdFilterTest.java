@@ -0,0 +1,132 @@
+package com.paymentchain.common.filter.reactive;
+
+import com.paymentchain.common.context.CorrelationContext;
+import com.paymentchain.common.tracing.ServerSpan;
+import com.paymentchain.common.tracing.TraceParent;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for ReactiveCorrelationIdFilter.
+ *
+ * @author benas
+ */
+class ReactiveCorrelationIdFilterTest {
+
+    private static final String PARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @Test
+    void shouldPropagateIncomingHeadersToResponseAndReactorContext() {
+        // Arrange
+        ReactiveCorrelationIdFilter filter = new ReactiveCorrelationIdFilter(() -> "generated");
+        filter.setSpanExporter(span -> { });
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments")
+                .header(CorrelationIdUtils.getCorrelationIdHeader(), "caller-id")
+                .header(TraceParent.HEADER, PARENT)
+                .header(TraceParent.STATE_HEADER, "vendor=value"));
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+        WebFilterChain chain = ex -> ReactiveCorrelationIdFilter.currentContext().doOnNext(seen::set).then();
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        TraceParent span = TraceParent.parse(headers.getFirst(TraceParent.HEADER));
+        assertThat(headers.getFirst(CorrelationIdUtils.getCorrelationIdHeader())).isEqualTo("caller-id");
+        assertThat(headers.getFirst(TraceParent.STATE_HEADER)).isEqualTo("vendor=value");
+        assertThat(span.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(span.format()).isNotEqualTo(PARENT);
+        assertThat(seen.get().getCorrelationId()).isEqualTo("caller-id");
+        assertThat(seen.get().getAttribute(TraceParent.HEADER)).isEqualTo(span.format());
+    }
+
+    @Test
+    void shouldPassParentTraceThroughWhenTracingIsDisabled() {
+        // Arrange
+        ReactiveCorrelationIdFilter filter = new ReactiveCorrelationIdFilter(() -> "generated");
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments")
+                .header(TraceParent.HEADER, PARENT));
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+        WebFilterChain chain = ex -> ReactiveCorrelationIdFilter.currentContext().doOnNext(seen::set).then();
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertThat(exchange.getResponse().getHeaders().getFirst(TraceParent.HEADER)).isEqualTo(PARENT);
+        assertThat(seen.get().getAttribute(TraceParent.HEADER)).isEqualTo(PARENT);
+        assertThat(seen.get().getCorrelationId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    }
+
+    @Test
+    void shouldGenerateCorrelationIdWhenHeaderIsMissing() {
+        // Arrange
+        ReactiveCorrelationIdFilter filter = new ReactiveCorrelationIdFilter(() -> "generated");
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments"));
+        AtomicReference<CorrelationContext> seen = new AtomicReference<>();
+        WebFilterChain chain = ex -> ReactiveCorrelationIdFilter.currentContext().doOnNext(seen::set).then();
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertThat(exchange.getResponse().getHeaders().getFirst(CorrelationIdUtils.getCorrelationIdHeader()))
+                .isEqualTo("generated");
+        assertThat(seen.get().getCorrelationId()).isEqualTo("generated");
+        assertThat(exchange.getResponse().getHeaders().getFirst(TraceParent.HEADER)).isNull();
+        assertThat(seen.get().getAttributes()).isEmpty();
+    }
+
+    @Test
+    void shouldExportSpanWithParentAndStatus() {
+        // Arrange
+        ReactiveCorrelationIdFilter filter = new ReactiveCorrelationIdFilter(() -> "generated");
+        List<ServerSpan> spans = new ArrayList<>();
+        filter.setSpanExporter(spans::add);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments")
+                .header(TraceParent.HEADER, PARENT));
+        WebFilterChain chain = ex -> {
+            ex.getResponse().setRawStatusCode(201);
+            return Mono.empty();
+        };
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertThat(spans).hasSize(1);
+        assertThat(spans.get(0).getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+        assertThat(spans.get(0).getParentSpanId()).isEqualTo("b7ad6b7169203331");
+        assertThat(spans.get(0).getName()).isEqualTo("GET UNMATCHED");
+        assertThat(spans.get(0).getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void shouldExportServerErrorSpanWhenChainFails() {
+        // Arrange
+        ReactiveCorrelationIdFilter filter = new ReactiveCorrelationIdFilter(() -> "generated");
+        List<ServerSpan> spans = new ArrayList<>();
+        filter.setSpanExporter(spans::add);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments"));
+        WebFilterChain chain = ex -> Mono.error(new IllegalStateException("boom"));
+
+        // Act
+        Mono<Void> result = filter.filter(exchange, chain);
+
+        // Assert
+        assertThatThrownBy(result::block).hasMessage("boom");
+        assertThat(spans).extracting(ServerSpan::getStatus).containsExactly(500);
+    }
+}
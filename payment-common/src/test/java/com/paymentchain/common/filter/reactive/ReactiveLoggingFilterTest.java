@@ -0,0 +1,147 @@
+package com.paymentchain.common.filter.reactive;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for ReactiveLoggingFilter.
+ *
+ * @author benas
+ */
+class ReactiveLoggingFilterTest {
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(ReactiveLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = filterLogger.getLevel();
+        filterLogger.setLevel(Level.INFO);
+        appender.start();
+        filterLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filterLogger.detachAppender(appender);
+        filterLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void shouldLogCorrelationIdFromReactorContextAndMdc() {
+        // Arrange
+        ReactiveCorrelationIdFilter correlationFilter = new ReactiveCorrelationIdFilter(() -> "generated");
+        ReactiveLoggingFilter loggingFilter = new ReactiveLoggingFilter();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments")
+                .header(CorrelationIdUtils.getCorrelationIdHeader(), "caller-id"));
+        WebFilterChain handler = ex -> Mono.empty();
+
+        // Act
+        correlationFilter.filter(exchange, ex -> loggingFilter.filter(ex, handler)).block();
+
+        // Assert: the id comes from the Reactor context, not from response headers
+        assertThat(appender.list).hasSize(2);
+        assertThat(appender.list).allSatisfy(event -> {
+            assertThat(event.getFormattedMessage()).endsWith("[correlationId=caller-id]");
+            assertThat(event.getMDCPropertyMap()).containsEntry("correlationId", "caller-id");
+        });
+        assertThat(CorrelationIdUtils.getCorrelationId()).isNull();
+    }
+
+    @Test
+    void shouldRecordRouteStatusAndLatency() {
+        // Arrange
+        ReactiveLoggingFilter filter = new ReactiveLoggingFilter();
+        List<String> recorded = new ArrayList<>();
+        filter.setLatencyRecorder((route, status, durationNanos) -> {
+            assertThat(durationNanos).isPositive();
+            recorded.add(route + " " + status);
+        });
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/missing"));
+        WebFilterChain chain = ex -> {
+            ex.getResponse().setRawStatusCode(404);
+            return Mono.empty();
+        };
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertThat(recorded).containsExactly(Routes.UNMATCHED_ROUTE + " 404");
+        assertThat(appender.list).last().satisfies(event -> assertThat(event.getFormattedMessage())
+                .startsWith("Outgoing Response: GET /api/missing - Status: 404"));
+    }
+
+    @Test
+    void shouldRecordServerErrorWhenChainFailsBeforeCommit() {
+        // Arrange
+        ReactiveLoggingFilter filter = new ReactiveLoggingFilter();
+        List<Integer> statuses = new ArrayList<>();
+        filter.setLatencyRecorder((route, status, durationNanos) -> statuses.add(status));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments"));
+        WebFilterChain chain = ex -> Mono.error(new IllegalStateException("boom"));
+
+        // Act
+        Mono<Void> result = filter.filter(exchange, chain);
+
+        // Assert: the exception handler answers 500 after the filter is done
+        assertThatThrownBy(result::block).hasMessage("boom");
+        assertThat(statuses).containsExactly(500);
+        assertThat(appender.list).last().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(event.getFormattedMessage()).contains("Status: 500");
+        });
+    }
+
+    @Test
+    void shouldRecordCommittedStatusWhenChainFailsAfterCommit() {
+        // Arrange
+        ReactiveLoggingFilter filter = new ReactiveLoggingFilter();
+        List<Integer> statuses = new ArrayList<>();
+        filter.setLatencyRecorder((route, status, durationNanos) -> statuses.add(status));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments"));
+        WebFilterChain chain = ex -> {
+            ex.getResponse().setRawStatusCode(202);
+            return ex.getResponse().setComplete().then(Mono.error(new IllegalStateException("boom")));
+        };
+
+        // Act
+        Mono<Void> result = filter.filter(exchange, chain);
+
+        // Assert
+        assertThatThrownBy(result::block).hasMessage("boom");
+        assertThat(statuses).containsExactly(202);
+    }
+
+    @Test
+    void shouldRecordClientClosedRequestWhenCancelled() {
+        // Arrange
+        ReactiveLoggingFilter filter = new ReactiveLoggingFilter();
+        List<Integer> statuses = new ArrayList<>();
+        filter.setLatencyRecorder((route, status, durationNanos) -> statuses.add(status));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/payments"));
+
+        // Act
+        filter.filter(exchange, ex -> Mono.never()).subscribe().dispose();
+
+        // Assert
+        assertThat(statuses).containsExactly(Routes.CLIENT_CLOSED_REQUEST);
+    }
+}
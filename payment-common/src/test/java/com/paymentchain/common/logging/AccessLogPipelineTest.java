@@ -0,0 +1,92 @@
+package com.paymentchain.common.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for AccessLogPipeline.
+ *
+ * @author benas
+ */
+class AccessLogPipelineTest {
+
+    @Test
+    void shouldWriteRecordsAsJsonLines() {
+        // Arrange
+        List<String> lines = new CopyOnWriteArrayList<>();
+        AccessLogPipeline pipeline = new AccessLogPipeline(16, lines::add).start();
+
+        // Act
+        pipeline.log(0L, "GET", "/api/transactions/1", "expand=\"all\"", 200, 12L, "abc-123");
+        pipeline.close();
+
+        // Assert
+        assertThat(lines).containsExactly("{\"timestamp\":\"1970-01-01T00:00:00Z\",\"method\":\"GET\","
+            + "\"uri\":\"/api/transactions/1\",\"query\":\"expand=\\\"all\\\"\",\"status\":200,"
+            + "\"durationMs\":12,\"correlationId\":\"abc-123\"}");
+        assertThat(pipeline.getWrittenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropAndCountRecordsWhenRingIsFull() {
+        // Arrange: not started, so nothing is consumed
+        List<String> lines = new CopyOnWriteArrayList<>();
+        AccessLogPipeline pipeline = new AccessLogPipeline(4, lines::add);
+
+        // Act
+        for (int i = 0; i < 6; i++) {
+            pipeline.log(0L, "GET", "/" + i, null, 200, 1L, null);
+        }
+        pipeline.start().close();
+
+        // Assert
+        assertThat(pipeline.getCapacity()).isEqualTo(4);
+        assertThat(pipeline.getPublishedCount()).isEqualTo(4);
+        assertThat(pipeline.getDroppedCount()).isEqualTo(2);
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(3)).contains("\"uri\":\"/3\"").doesNotContain("query");
+    }
+
+    @Test
+    void shouldNotLoseRecordsFromConcurrentProducers() throws InterruptedException {
+        // Arrange
+        List<String> lines = new CopyOnWriteArrayList<>();
+        AccessLogPipeline pipeline = new AccessLogPipeline(1 << 16, lines::add).start();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    pipeline.log(0L, "POST", "/api", null, 201, 1L, null);
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        pipeline.close();
+
+        // Assert
+        assertThat(pipeline.getDroppedCount()).isZero();
+        assertThat(lines).hasSize(20000);
+    }
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        // Act & Assert
+        assertThat(new AccessLogPipeline(1, line -> { }).getCapacity()).isEqualTo(2);
+        assertThat(new AccessLogPipeline(1000, line -> { }).getCapacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new AccessLogPipeline(0, line -> { }))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
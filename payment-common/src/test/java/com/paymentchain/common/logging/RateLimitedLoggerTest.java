@@ -0,0 +1,155 @@
+package com.paymentchain.common.logging;
+
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for RateLimitedLogger.
+ *
+ * @author benas
+ */
+class RateLimitedLoggerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitedLoggerTest.class);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdUtils.clearCorrelationId();
+    }
+
+    @Test
+    void shouldAllowBurstThenSuppress() {
+        // Arrange
+        RateLimitedLogger limited = new RateLimitedLogger(logger, 1.0, 3, clock::get);
+
+        // Act
+        int logged = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limited.warn("timeout", "Timeout {}", i)) {
+                logged++;
+            }
+        }
+
+        // Assert
+        assertThat(logged).isEqualTo(3);
+        assertThat(limited.getSuppressedCount()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRefillTokensOverTime() {
+        // Arrange
+        RateLimitedLogger limited = new RateLimitedLogger(logger, 2.0, 1, clock::get);
+        limited.warn("timeout", "first");
+
+        // Act & Assert: one token every 500 ms
+        assertThat(limited.warn("timeout", "too early")).isFalse();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(499));
+        assertThat(limited.warn("timeout", "still too early")).isFalse();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(limited.warn("timeout", "refilled")).isTrue();
+    }
+
+    @Test
+    void shouldLimitEachKeySeparately() {
+        // Arrange
+        RateLimitedLogger limited = new RateLimitedLogger(logger, 1.0, 1, clock::get);
+
+        // Act & Assert
+        assertThat(limited.warn("a", "first a")).isTrue();
+        assertThat(limited.warn("a", "second a")).isFalse();
+        assertThat(limited.error("b", "first b", new IllegalStateException("boom"))).isTrue();
+    }
+
+    @Test
+    void shouldReportSuppressedMessagesOnceInSummary() {
+        // Arrange
+        RateLimitedLogger limited = new RateLimitedLogger(logger, 1.0, 1, clock::get);
+        limited.warn("a", "logged");
+        CorrelationIdUtils.setCorrelationId("corr-1");
+        limited.warn("a", "suppressed");
+        limited.warn("a", "suppressed");
+        limited.warn("b", "logged");
+        limited.warn("b", "suppressed");
+
+        // Act
+        long first = limited.flushSummaries();
+        long second = limited.flushSummaries();
+
+        // Assert
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isZero();
+        assertThat(limited.getSuppressedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        // Act & Assert
+        assertThatThrownBy(() -> new RateLimitedLogger(logger, 0.0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitedLogger(logger, 1.0, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectSubMillisecondSummaryInterval() {
+        // Arrange
+        RateLimitedLogger limited = new RateLimitedLogger(logger, 1.0, 1);
+
+        // Act & Assert
+        for (Duration interval : new Duration[] {Duration.ZERO, Duration.ofNanos(500_000), Duration.ofSeconds(-1)}) {
+            assertThatThrownBy(() -> limited.start(interval))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+        limited.close();
+    }
+
+    @Test
+    void shouldCapKeysWhenFirstSeenConcurrently() throws Exception {
+        // Arrange: a logger without appenders, so thousands of messages stay out of the test output
+        ch.qos.logback.classic.Logger quiet =
+            (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(RateLimitedLoggerTest.class.getName() + ".quiet");
+        quiet.setAdditive(false);
+        RateLimitedLogger limited = new RateLimitedLogger(quiet, 1.0, 1);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < RateLimitedLogger.MAX_KEYS; i++) {
+                    limited.warn("key-" + thread + "-" + i, "message {}", i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertThat(limited.getKeyCount()).isEqualTo(RateLimitedLogger.MAX_KEYS + 1);
+    }
+}
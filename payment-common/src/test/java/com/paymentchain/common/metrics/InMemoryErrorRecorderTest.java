@@ -0,0 +1,37 @@
+package com.paymentchain.common.metrics;
+
+import com.paymentchain.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for InMemoryErrorRecorder.
+ *
+ * @author benas
+ */
+class InMemoryErrorRecorderTest {
+
+    @Test
+    void shouldCountPerExceptionTypeAndStatus() {
+        // Arrange
+        InMemoryErrorRecorder recorder = new InMemoryErrorRecorder();
+
+        // Act
+        recorder.record(ResourceNotFoundException.class, 404);
+        recorder.record(ResourceNotFoundException.class, 404);
+        recorder.record(IllegalArgumentException.class, 400);
+        recorder.record(IllegalStateException.class, 500);
+
+        // Assert
+        assertThat(recorder.getCount(ResourceNotFoundException.class, 404)).isEqualTo(2);
+        assertThat(recorder.getCount(ResourceNotFoundException.class, 500)).isZero();
+        assertThat(recorder.getCount(RuntimeException.class, 500)).isZero();
+        assertThat(recorder.getCounts())
+            .containsEntry(IllegalArgumentException.class.getName(), Map.of(400, 1L))
+            .containsEntry(IllegalStateException.class.getName(), Map.of(500, 1L))
+            .hasSize(3);
+    }
+}
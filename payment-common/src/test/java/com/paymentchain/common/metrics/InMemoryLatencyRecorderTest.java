@@ -0,0 +1,48 @@
+package com.paymentchain.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for InMemoryLatencyRecorder.
+ *
+ * @author benas
+ */
+class InMemoryLatencyRecorderTest {
+
+    @Test
+    void shouldKeepOneHistogramPerRouteAndStatus() {
+        // Arrange
+        InMemoryLatencyRecorder recorder = new InMemoryLatencyRecorder();
+
+        // Act
+        recorder.record("/api/transactions/{id}", 200, 1_000L);
+        recorder.record("/api/transactions/{id}", 200, 3_000L);
+        recorder.record("/api/transactions/{id}", 404, 500L);
+        recorder.record("/api/customers", 201, 2_000L);
+
+        // Assert
+        assertThat(recorder.getSnapshot("/api/transactions/{id}", 200).getCount()).isEqualTo(2);
+        assertThat(recorder.getSnapshot("/api/transactions/{id}", 404).getMaxNanos()).isEqualTo(500L);
+        assertThat(recorder.getSnapshot("/api/customers", 500)).isNull();
+
+        Map<String, Map<Integer, LatencySnapshot>> snapshots = recorder.getSnapshots();
+        assertThat(snapshots).containsOnlyKeys("/api/customers", "/api/transactions/{id}");
+        assertThat(snapshots.get("/api/transactions/{id}")).containsOnlyKeys(200, 404);
+    }
+
+    @Test
+    void shouldClampUnknownStatusCodes() {
+        // Arrange
+        InMemoryLatencyRecorder recorder = new InMemoryLatencyRecorder();
+
+        // Act
+        recorder.record("UNMATCHED", 0, 1_000L);
+
+        // Assert
+        assertThat(recorder.getSnapshots().get("UNMATCHED")).containsOnlyKeys(100);
+    }
+}
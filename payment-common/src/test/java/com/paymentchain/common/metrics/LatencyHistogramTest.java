@@ -0,0 +1,79 @@
+package com.paymentchain.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for LatencyHistogram and LatencySnapshot.
+ *
+ * @author benas
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void shouldMapValuesToContiguousBuckets() {
+        // Assert: every bucket starts where the previous one ends
+        for (int i = 1; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertThat(LatencyHistogram.bucketLowerBound(i))
+                .isEqualTo(LatencyHistogram.bucketLowerBound(i - 1) + LatencyHistogram.bucketWidth(i - 1));
+        }
+        assertThat(LatencyHistogram.bucketIndex(31)).isEqualTo(31);
+        assertThat(LatencyHistogram.bucketIndex(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        // Arrange: 1..10000 microseconds
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        // Act
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat(snapshot.getP50Nanos()).isCloseTo(5_000_000L, withinPercentage(4));
+        assertThat(snapshot.getP99Nanos()).isCloseTo(9_900_000L, withinPercentage(4));
+        assertThat(snapshot.getP999Nanos()).isCloseTo(9_990_000L, withinPercentage(4));
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000_000L);
+        assertThat(snapshot.getMeanNanos()).isCloseTo(5_000_500.0, within(1.0));
+        assertThat(snapshot.getValueAtPercentile(50.0, TimeUnit.MILLISECONDS)).isCloseTo(5.0, within(0.2));
+    }
+
+    @Test
+    void shouldCapPercentilesAtMaximum() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001L);
+        histogram.record(TimeUnit.MINUTES.toNanos(5));
+
+        // Act
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertThat(snapshot.getValueAtPercentile(100.0)).isEqualTo(TimeUnit.MINUTES.toNanos(5));
+        assertThat(snapshot.getValueAtPercentile(0.0)).isCloseTo(1_000_001L, withinPercentage(4));
+    }
+
+    @Test
+    void shouldHandleEmptyAndResetHistograms() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+
+        // Act
+        histogram.reset();
+
+        // Assert
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.snapshot().getP99Nanos()).isZero();
+        assertThatThrownBy(() -> histogram.snapshot().getValueAtPercentile(101.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.paymentchain.common.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for TraceParent.
+ *
+ * @author benas
+ */
+class TraceParentTest {
+
+    private static final String VALID = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    void shouldParseAndFormatValidHeader() {
+        // Act
+        TraceParent traceParent = TraceParent.parse(VALID);
+
+        // Assert
+        assertThat(traceParent).isNotNull();
+        assertThat(traceParent.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(traceParent.getParentId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(traceParent.isSampled()).isTrue();
+        assertThat(traceParent.format()).isEqualTo(VALID);
+    }
+
+    @Test
+    void shouldKeepTraceIdAndFlagsInChild() {
+        // Arrange
+        TraceParent parent = TraceParent.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+        // Act
+        TraceParent child = parent.child();
+
+        // Assert
+        assertThat(child.getTraceId()).isEqualTo(parent.getTraceId());
+        assertThat(child.getParentId()).isNotEqualTo(parent.getParentId());
+        assertThat(child.isSampled()).isFalse();
+    }
+
+    @Test
+    void shouldAcceptFutureVersionsWithExtraFields() {
+        // Act
+        TraceParent traceParent = TraceParent.parse("cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra");
+
+        // Assert
+        assertThat(traceParent).isNotNull();
+        assertThat(traceParent.format()).isEqualTo(VALID);
+    }
+
+    @Test
+    void shouldRejectInvalidHeaders() {
+        // Arrange
+        String[] invalid = {
+            "",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7",
+            "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+            "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+            "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+            "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra",
+            "00_4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7_01",
+            "00-4bf92f3577b34da6a3ce929d0e0e473g-00f067aa0ba902b7-01"
+        };
+
+        // Act & Assert
+        for (String value : invalid) {
+            assertThat(TraceParent.parse(value)).as(value).isNull();
+        }
+        assertThat(TraceParent.parse(null)).isNull();
+    }
+
+    @Test
+    void shouldGenerateValidRootTraces() {
+        // Act
+        TraceParent root = TraceParent.newRoot();
+
+        // Assert
+        assertThat(TraceParent.parse(root.format())).isEqualTo(root);
+        assertThat(root.isSampled()).isTrue();
+    }
+
+    @Test
+    void shouldSanitizeTraceState() {
+        // Act & Assert
+        assertThat(TraceParent.sanitizeState("congo=t61rcWkgMzE,rojo=00f067aa0ba902b7"))
+            .isEqualTo("congo=t61rcWkgMzE,rojo=00f067aa0ba902b7");
+        assertThat(TraceParent.sanitizeState(null)).isNull();
+        assertThat(TraceParent.sanitizeState("   ")).isNull();
+        assertThat(TraceParent.sanitizeState("a=b\n")).isNull();
+        assertThat(TraceParent.sanitizeState("a=" + "x".repeat(TraceParent.MAX_STATE_LENGTH))).isNull();
+    }
+}
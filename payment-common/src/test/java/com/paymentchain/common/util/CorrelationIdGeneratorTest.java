@@ -0,0 +1,135 @@
+package com.paymentchain.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CorrelationIdGenerator and IdFormat.
+ *
+ * @author benas
+ */
+class CorrelationIdGeneratorTest {
+
+    @Test
+    void shouldFormatUuidLikeJdk() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange
+            UUID uuid = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+
+            // Act
+            String formatted = IdFormat.uuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+            // Assert
+            assertThat(formatted).isEqualTo(uuid.toString());
+        }
+    }
+
+    @Test
+    void shouldGenerateRandomVersion4Uuids() {
+        // Act
+        UUID uuid = UUID.fromString(CorrelationIdGenerator.random().nextId());
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGenerateIncreasingUuidV7Ids() {
+        // Arrange
+        CorrelationIdGenerator generator = CorrelationIdGenerator.uuidV7();
+
+        // Act
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        // Assert
+        assertThat(UUID.fromString(first).version()).isEqualTo(7);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void shouldGenerateUlidsWithTimestampPrefix() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        String ulid = CorrelationIdGenerator.ulid().nextId();
+
+        // Assert
+        assertThat(ulid).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        assertThat(decodeUlidTimestamp(ulid)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldEncodeAllUlidRandomBits() {
+        // Arrange
+        char[] allOnes = new char[26];
+        char[] allZeros = new char[26];
+
+        // Act
+        IdFormat.writeUlid(0L, 0xFFFF, -1L, allOnes, 0);
+        IdFormat.writeUlid(0L, 0, 0L, allZeros, 0);
+
+        // Assert
+        assertThat(new String(allOnes)).isEqualTo("0000000000ZZZZZZZZZZZZZZZZ");
+        assertThat(new String(allZeros)).isEqualTo("00000000000000000000000000");
+    }
+
+    @Test
+    void shouldGenerateNodePrefixedSequences() {
+        // Arrange
+        CorrelationIdGenerator generator = CorrelationIdGenerator.nodeSequence("node-1");
+
+        // Act
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        // Assert
+        assertThat(first).startsWith("node-1-").hasSize(7 + 16);
+        assertThat(Long.parseUnsignedLong(second.substring(7), 16))
+            .isEqualTo(Long.parseUnsignedLong(first.substring(7), 16) + 1);
+    }
+
+    @Test
+    void shouldGenerateUniqueIds() {
+        for (String name : new String[] {"random", "uuid-v7", "ulid", "node-sequence", "secure-random"}) {
+            // Arrange
+            CorrelationIdGenerator generator = CorrelationIdGenerator.of(name, "n1");
+            Set<String> ids = new HashSet<>();
+
+            // Act
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(generator.nextId());
+            }
+
+            // Assert
+            assertThat(ids).as(name).hasSize(10_000);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownGeneratorNames() {
+        // Act & Assert
+        assertThatThrownBy(() -> CorrelationIdGenerator.of("snowflake", "n1"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown correlation ID generator");
+        assertThatThrownBy(() -> CorrelationIdGenerator.nodeSequence(" "))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long decodeUlidTimestamp(String ulid) {
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = (millis << 5) | alphabet.indexOf(ulid.charAt(i));
+        }
+        return millis;
+    }
+}
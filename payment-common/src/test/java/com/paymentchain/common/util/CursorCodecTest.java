@@ -0,0 +1,79 @@
+package com.paymentchain.common.util;
+
+import com.paymentchain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for CursorCodec.
+ *
+ * @author benas
+ */
+class CursorCodecTest {
+
+    private final CursorCodec codec = new CursorCodec("0123456789abcdef-test".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void shouldRoundTripCursor() {
+        // Arrange
+        Instant createdAt = Instant.parse("2024-01-15T10:30:00Z");
+
+        // Act
+        String token = codec.encode(createdAt, 42L, "");
+        Cursor cursor = codec.decode(token);
+
+        // Assert
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(cursor.size()).isEqualTo(3);
+        assertThat(cursor.getInstant(0)).isEqualTo(createdAt);
+        assertThat(cursor.getLong(1)).isEqualTo(42L);
+        assertThat(cursor.get(2)).isEmpty();
+        assertThat(cursor).isEqualTo(Cursor.of(createdAt, 42L, ""));
+    }
+
+    @Test
+    void shouldRejectTamperedTokens() {
+        // Arrange
+        byte[] token = Base64.getUrlDecoder().decode(codec.encode("2024-01-15T10:30:00Z", 42L));
+
+        // Act & Assert: flipping any single bit invalidates the token
+        for (int i = 0; i < token.length * 8; i++) {
+            byte[] tampered = token.clone();
+            tampered[i / 8] ^= (byte) (1 << (i % 8));
+            String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(tampered);
+            assertThatThrownBy(() -> codec.decode(encoded))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Invalid pagination cursor");
+        }
+    }
+
+    @Test
+    void shouldRejectTokensFromOtherSecretsAndGarbage() {
+        // Arrange
+        CursorCodec other = new CursorCodec("another-secret-of-16-bytes".getBytes(StandardCharsets.UTF_8));
+        String foreign = other.encode(1L);
+
+        // Act & Assert
+        for (String token : new String[]{foreign, "", "not base64!", "AQ", "x".repeat(2000)}) {
+            assertThatThrownBy(() -> codec.decode(token)).isInstanceOf(InvalidRequestException.class);
+        }
+        assertThat(codec.decodeOrNull(" ")).isNull();
+        assertThat(codec.decodeOrNull(null)).isNull();
+    }
+
+    @Test
+    void shouldRejectShortSecretsAndSeparatorsInKeys() {
+        // Act & Assert
+        assertThatThrownBy(() -> new CursorCodec(new byte[8]))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode("a\u001Fb"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Cursor.of())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,209 @@
+package com.paymentchain.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paymentchain.common.dto.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for JsonCodecRegistry and JsonCodec.
+ *
+ * @author benas
+ */
+class JsonCodecRegistryTest {
+
+    private JsonCodecRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new JsonCodecRegistry(new ObjectMapper());
+    }
+
+    @Test
+    void shouldReuseCodecPerType() {
+        // Act
+        JsonCodec<Item> first = registry.codec(Item.class);
+        JsonCodec<Item> second = registry.codec(Item.class);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldPreRegisterTypes() {
+        // Act
+        registry.register(Item.class, ApiResponse.class);
+
+        // Assert
+        assertThat(registry.getRegisteredTypes()).contains(Item.class, ApiResponse.class);
+    }
+
+    @Test
+    void shouldRoundTripThroughStringAndBytes() {
+        // Arrange
+        JsonCodec<Item> codec = registry.codec(Item.class);
+        Item item = new Item("test", 123);
+
+        // Act
+        Item fromString = codec.fromJson(codec.toJson(item));
+        Item fromBytes = codec.fromJsonBytes(codec.toJsonBytes(item));
+
+        // Assert
+        assertThat(fromString.getName()).isEqualTo("test");
+        assertThat(fromBytes.getValue()).isEqualTo(123);
+    }
+
+    @Test
+    void shouldReuseThreadBufferAcrossCalls() {
+        // Arrange
+        JsonCodec<Item> codec = registry.codec(Item.class);
+
+        // Act
+        byte[] large = codec.toJsonBytes(new Item("x".repeat(5000), 1));
+        byte[] small = codec.toJsonBytes(new Item("y", 2));
+
+        // Assert
+        assertThat(large).hasSizeGreaterThan(5000);
+        assertThat(new String(small)).isEqualTo("{\"name\":\"y\",\"value\":2}");
+    }
+
+    @Test
+    void shouldHandleGenericTypes() {
+        // Arrange
+        JsonCodec<List<Item>> codec = registry.codec(new TypeReference<List<Item>>() { });
+
+        // Act
+        List<Item> items = codec.fromJson("[{\"name\":\"a\",\"value\":1},{\"name\":\"b\",\"value\":2}]");
+
+        // Assert
+        assertThat(items).hasSize(2);
+        assertThat(items.get(1)).isInstanceOf(Item.class);
+    }
+
+    @Test
+    void shouldSerializeSubclassPropertiesThroughAbstractCodec() {
+        // Arrange
+        JsonCodec<Object> codec = registry.codec(Object.class);
+
+        // Act
+        String json = codec.toJson(Map.of("key", new Item("a", 1)));
+
+        // Assert
+        assertThat(json).contains("\"name\":\"a\"");
+    }
+
+    @Test
+    void shouldWrapParseErrors() {
+        // Arrange
+        JsonCodec<Item> codec = registry.codec(Item.class);
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.fromJson("{invalid"))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to convert JSON to object");
+        assertThat(codec.fromJsonSafe("{invalid")).isNull();
+    }
+
+    @Test
+    void shouldSerializeSubclassPropertiesThroughConcreteCodec() {
+        // Arrange
+        JsonCodec<Item> codec = registry.codec(Item.class);
+        Item item = new DetailedItem("a", 1, "extra");
+
+        // Act
+        String json = codec.toJson(item);
+        String bytesJson = new String(codec.toJsonBytes(item), StandardCharsets.UTF_8);
+
+        // Assert
+        assertThat(json).contains("\"detail\":\"extra\"").contains("\"name\":\"a\"");
+        assertThat(bytesJson).isEqualTo(json);
+        assertThat(codec.toJson(new Item("b", 2))).isEqualTo("{\"name\":\"b\",\"value\":2}");
+    }
+
+    @Test
+    void shouldStopCachingAtMaxSize() {
+        // Arrange
+        JsonCodecRegistry bounded = new JsonCodecRegistry(new ObjectMapper(), 2);
+        bounded.register(Item.class, DetailedItem.class);
+
+        // Act
+        JsonCodec<String> uncached = bounded.codec(String.class);
+
+        // Assert
+        assertThat(bounded.getRegisteredTypes()).containsExactlyInAnyOrder(Item.class, DetailedItem.class);
+        assertThat(bounded.codec(String.class)).isNotSameAs(uncached);
+        assertThat(uncached.toJson("ok")).isEqualTo("\"ok\"");
+    }
+
+    @Test
+    void shouldRebindCodecsAlreadyHandedOut() {
+        // Arrange
+        JsonCodec<Item> codec = registry.codec(Item.class);
+        ObjectMapper indenting = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        // Act
+        registry.bind(indenting);
+
+        // Assert
+        assertThat(registry.getObjectMapper()).isSameAs(indenting);
+        assertThat(registry.codec(Item.class)).isSameAs(codec);
+        assertThat(codec.toJson(new Item("a", 1))).contains(System.lineSeparator());
+    }
+
+    static class DetailedItem extends Item {
+        private String detail;
+
+        public DetailedItem() {
+        }
+
+        public DetailedItem(String name, int value, String detail) {
+            super(name, value);
+            this.detail = detail;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        public void setDetail(String detail) {
+            this.detail = detail;
+        }
+    }
+
+    static class Item {
+        private String name;
+        private int value;
+
+        public Item() {
+        }
+
+        public Item(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.paymentchain.common.util;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
@@ -151,6 +152,26 @@ class JsonUtilsTest {
         assertThat(JsonUtils.getObjectMapper()).isNotNull();
     }
 
+    @Test
+    void shouldBindToApplicationMapper() {
+        // Arrange
+        ObjectMapper defaultMapper = JsonUtils.getObjectMapper();
+        ObjectMapper applicationMapper = new ObjectMapper();
+        JsonUtils.register(TestObject.class);
+
+        try {
+            // Act
+            JsonUtils.bind(applicationMapper);
+
+            // Assert
+            assertThat(JsonUtils.getObjectMapper()).isSameAs(applicationMapper);
+            assertThat(JsonUtils.getCodecs().getRegisteredTypes()).contains(TestObject.class);
+            assertThat(JsonUtils.toJson(new TestObject("test", 1))).contains("\"name\":\"test\"");
+        } finally {
+            JsonUtils.bind(defaultMapper);
+        }
+    }
+
     // Test helper class
     static class TestObject {
         private String name;
@@ -0,0 +1,126 @@
+package com.paymentchain.common.web;
+
+import com.paymentchain.common.dto.NdjsonResponse;
+import com.paymentchain.common.util.CorrelationIdUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for NdjsonHttpMessageConverter.
+ *
+ * @author benas
+ */
+class NdjsonHttpMessageConverterTest {
+
+    private final NdjsonHttpMessageConverter converter = new NdjsonHttpMessageConverter();
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdUtils.clearCorrelationId();
+    }
+
+    @Test
+    void shouldWriteOneRecordPerLineWithCorrelationId() throws IOException {
+        // Arrange
+        CorrelationIdUtils.setCorrelationId("abc-123");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        NdjsonResponse<Map<String, Object>> response = NdjsonResponse.of(() -> Stream.of(
+                Map.of("id", 1), Map.of("id", 2)));
+
+        // Act
+        converter.write(response, null, output);
+
+        // Assert
+        assertThat(output.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+        assertThat(output.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/x-ndjson"));
+        assertThat(output.getHeaders().getFirst(CorrelationIdUtils.getCorrelationIdHeader())).isEqualTo("abc-123");
+        assertThat(converter.canRead(NdjsonResponse.class, null)).isFalse();
+        assertThat(converter.canWrite(NdjsonResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void shouldFlushEveryChunk() throws IOException {
+        // Arrange
+        List<Integer> linesAtFlush = new ArrayList<>();
+        StringBuilder received = new StringBuilder();
+        OutputStream body = new OutputStream() {
+            @Override
+            public void write(int b) {
+                received.append((char) b);
+            }
+
+            @Override
+            public void flush() {
+                linesAtFlush.add((int) received.chars().filter(c -> c == '\n').count());
+            }
+        };
+        NdjsonResponse<Integer> response = NdjsonResponse.<Integer>builder()
+                .content(() -> IntStream.range(0, 25).boxed())
+                .chunkSize(10)
+                .build();
+
+        // Act
+        converter.write(response, null, outputMessage(body));
+
+        // Assert
+        assertThat(linesAtFlush).startsWith(10, 20);
+        assertThat(received.toString().split("\n")).hasSize(25);
+    }
+
+    @Test
+    void shouldStopReadingAndCloseSourceWhenClientCancels() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicInteger pulled = new AtomicInteger();
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        NdjsonResponse<Integer> response = NdjsonResponse.<Integer>builder()
+                .content(() -> IntStream.range(0, 1_000_000).boxed()
+                        .peek(i -> pulled.incrementAndGet())
+                        .onClose(() -> closed.set(true)))
+                .chunkSize(10)
+                .build();
+
+        // Act & Assert
+        assertThatCode(() -> converter.write(response, null, outputMessage(disconnected)))
+            .doesNotThrowAnyException();
+        assertThat(closed).isTrue();
+        assertThat(pulled.get()).isEqualTo(10);
+    }
+
+    private static HttpOutputMessage outputMessage(OutputStream body) {
+        HttpHeaders headers = new HttpHeaders();
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+}
@@ -3,15 +3,38 @@ package com.paymentchain.domain.exception;
 /**
  * Base exception for domain layer violations.
  *
+ * Domain exceptions are expected outcomes (declined payments, invalid input)
+ * rather than bugs, so filling in a stack trace is optional: when disabled
+ * with {@link #setStackTraceEnabled(boolean)}, exceptions created without a
+ * cause skip {@code fillInStackTrace()} and have an empty stack trace.
+ * Exceptions wrapping a cause always keep theirs.
+ *
  * @author benas
  */
 public class DomainException extends RuntimeException {
 
+    private static volatile boolean stackTraceEnabled = true;
+
     public DomainException(String message) {
-        super(message);
+        super(message, null, true, stackTraceEnabled);
     }
 
     public DomainException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Whether exceptions without a cause record a stack trace.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Enable or disable stack traces for exceptions created from now on without a cause.
+     * Also applies to the common module's expected-error exceptions.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
 }
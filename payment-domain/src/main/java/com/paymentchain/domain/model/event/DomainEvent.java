@@ -1,34 +1,130 @@
 package com.paymentchain.domain.model.event;
 
 import java.time.Instant;
-import java.util.UUID;
 
 /**
  * Base class for all domain events.
  *
+ * Events created with an {@link EventIdentity} get their id and
+ * {@code occurredOn} at construction, from one reading of its clock, so UUIDv7
+ * ids are ordered like the events themselves; that identity is final. Events
+ * created through the no-arg constructor (deserializers) read neither the clock
+ * nor the generator up front: the producer's values are set through the
+ * package-private setters Jackson uses or {@link #restoreIdentity(String, Instant)},
+ * and the identity is fixed on first read, with defaults for anything missing.
+ * The event type is cached per class.
+ *
  * @author benas
  */
 public abstract class DomainEvent {
 
-    private final String eventId;
-    private final Instant occurredOn;
+    private static final ClassValue<String> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getSimpleName();
+        }
+    };
+
     private final String eventType;
 
+    // Null until the identity is fixed; written once, under the event's lock
+    private volatile Identity identity;
+
+    // Producer values received before the identity is fixed, guarded by this
+    private String restoredEventId;
+    private Instant restoredOccurredOn;
+
+    /**
+     * Create an event whose identity is restored by a deserializer, or assigned on first read.
+     */
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID().toString();
-        this.occurredOn = Instant.now();
-        this.eventType = this.getClass().getSimpleName();
+        this.eventType = EVENT_TYPES.get(getClass());
+    }
+
+    /**
+     * @param identity Clock and id generator to stamp the event with, or null for the defaults
+     */
+    protected DomainEvent(EventIdentity identity) {
+        this.eventType = EVENT_TYPES.get(getClass());
+        this.identity = Identity.generate(identity != null ? identity : EventIdentity.defaults());
     }
 
     public String getEventId() {
-        return eventId;
+        return identity().eventId;
     }
 
     public Instant getOccurredOn() {
-        return occurredOn;
+        return identity().occurredOn;
     }
 
     public String getEventType() {
         return eventType;
     }
+
+    /**
+     * Set the id and timestamp of a deserialized event, created through the
+     * no-arg constructor. Null values are generated instead.
+     *
+     * @throws IllegalStateException if the event's identity is already fixed
+     */
+    public synchronized void restoreIdentity(String eventId, Instant occurredOn) {
+        checkNotFixed();
+        restoredEventId = eventId;
+        restoredOccurredOn = occurredOn;
+        identity = restored();
+    }
+
+    // Setters (para Jackson deserialization)
+    synchronized void setEventId(String eventId) {
+        checkNotFixed();
+        restoredEventId = eventId;
+    }
+
+    synchronized void setOccurredOn(Instant occurredOn) {
+        checkNotFixed();
+        restoredOccurredOn = occurredOn;
+    }
+
+    private Identity identity() {
+        Identity current = identity;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (identity == null) {
+                identity = restored();
+            }
+            return identity;
+        }
+    }
+
+    private Identity restored() {
+        EventIdentity defaults = EventIdentity.defaults();
+        Instant occurredOn = restoredOccurredOn != null ? restoredOccurredOn : defaults.now();
+        String eventId = restoredEventId != null ? restoredEventId : defaults.nextId(occurredOn);
+        restoredEventId = null;
+        restoredOccurredOn = null;
+        return new Identity(eventId, occurredOn);
+    }
+
+    private void checkNotFixed() {
+        if (identity != null) {
+            throw new IllegalStateException("Event identity cannot change once it has been assigned or read");
+        }
+    }
+
+    private static final class Identity {
+        private final String eventId;
+        private final Instant occurredOn;
+
+        private Identity(String eventId, Instant occurredOn) {
+            this.eventId = eventId;
+            this.occurredOn = occurredOn;
+        }
+
+        static Identity generate(EventIdentity source) {
+            Instant occurredOn = source.now();
+            return new Identity(source.nextId(occurredOn), occurredOn);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.paymentchain.domain.model.event;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Strategy for generating {@link DomainEvent} identifiers.
+ *
+ * @author benas
+ */
+@FunctionalInterface
+public interface EventIdGenerator {
+
+    /**
+     * Generate a new, unique event id.
+     */
+    String nextId();
+
+    /**
+     * Generate a new, unique id for an event that occurred at the given instant.
+     * Time-based generators embed that instant instead of reading their own clock.
+     */
+    default String nextId(Instant occurredOn) {
+        return nextId();
+    }
+
+    /**
+     * Time-ordered, monotonic UUIDv7 ids (RFC 9562) from a non-blocking random source.
+     */
+    static EventIdGenerator uuidV7() {
+        return UuidV7EventIdGenerator.INSTANCE;
+    }
+
+    /**
+     * Random UUIDv4 ids backed by SecureRandom, the historical default.
+     */
+    static EventIdGenerator randomUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * Resolve a generator by name: uuid-v7 or random-uuid.
+     *
+     * @param name Generator name, case-insensitive
+     */
+    static EventIdGenerator of(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "uuid-v7" -> uuidV7();
+            case "random-uuid" -> randomUuid();
+            default -> throw new IllegalArgumentException("Unknown event ID generator: " + name);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.paymentchain.domain.model.event;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Source of ids and timestamps for new {@link DomainEvent}s: a {@link Clock}
+ * and an {@link EventIdGenerator}, read once per event so the id and
+ * {@code occurredOn} come from the same instant.
+ *
+ * Instances are immutable. Services build one from configuration and pass it
+ * to event builders; events created without one use {@link #defaults()}.
+ *
+ * @author benas
+ */
+public final class EventIdentity {
+
+    private static final EventIdentity DEFAULTS = new EventIdentity(Clock.systemUTC(), EventIdGenerator.uuidV7());
+
+    private final Clock clock;
+    private final EventIdGenerator idGenerator;
+
+    private EventIdentity(Clock clock, EventIdGenerator idGenerator) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.idGenerator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+
+    /**
+     * System UTC clock and UUIDv7 ids.
+     */
+    public static EventIdentity defaults() {
+        return DEFAULTS;
+    }
+
+    public static EventIdentity of(Clock clock, EventIdGenerator idGenerator) {
+        return new EventIdentity(clock, idGenerator);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public EventIdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    Instant now() {
+        return clock.instant();
+    }
+
+    String nextId(Instant occurredOn) {
+        return idGenerator.nextId(occurredOn);
+    }
+}
@@ -0,0 +1,69 @@
+package com.paymentchain.domain.model.event;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 event id generator.
+ *
+ * The 48-bit millisecond timestamp is followed by a 12-bit counter (RFC 9562,
+ * method 1), so ids generated by one instance are strictly increasing even
+ * within the same millisecond; the remaining 62 bits come from
+ * {@link ThreadLocalRandom}, so producers never contend on SecureRandom.
+ * If the counter overflows, the timestamp is advanced by one millisecond.
+ *
+ * @author benas
+ */
+public final class UuidV7EventIdGenerator implements EventIdGenerator {
+
+    static final UuidV7EventIdGenerator INSTANCE = new UuidV7EventIdGenerator(Clock.systemUTC());
+
+    private static final int COUNTER_BITS = 12;
+
+    private final Clock clock;
+    /** Last issued (millis << 12 | counter). */
+    private final AtomicLong lastTimestamp = new AtomicLong();
+
+    public UuidV7EventIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        return nextUuid().toString();
+    }
+
+    @Override
+    public String nextId(Instant occurredOn) {
+        return nextUuid(occurredOn.toEpochMilli()).toString();
+    }
+
+    /**
+     * Generate the next id as a UUID.
+     */
+    public UUID nextUuid() {
+        return nextUuid(clock.millis());
+    }
+
+    /**
+     * Generate the next id as a UUID, for the given epoch millisecond.
+     */
+    public UUID nextUuid(long epochMillis) {
+        long candidate = epochMillis << COUNTER_BITS;
+        long previous;
+        long next;
+        do {
+            previous = lastTimestamp.get();
+            next = Math.max(candidate, previous + 1);
+        } while (!lastTimestamp.compareAndSet(previous, next));
+
+        long millis = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (millis << 16) | 0x7000L | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
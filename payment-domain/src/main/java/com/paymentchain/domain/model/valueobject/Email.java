@@ -3,38 +3,142 @@ package com.paymentchain.domain.model.valueobject;
 import com.paymentchain.domain.exception.DomainException;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object for email address.
  *
+ * Validated by a single-pass state machine (local part, domain labels, TLD)
+ * instead of a regex, and lower-cased with ASCII rules only when needed.
+ *
  * @author benas
  */
 public final class Email {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$"
-    );
+    private static final int VALID = -1;
 
     private final String value;
 
     private Email(String value) {
-        this.value = value.toLowerCase();
+        this.value = value;
     }
 
     public static Email of(String value) {
-        validate(value);
-        return new Email(value);
-    }
-
-    private static void validate(String value) {
         if (value == null || value.isBlank()) {
             throw new DomainException("Email cannot be null or empty");
         }
 
-        if (!EMAIL_PATTERN.matcher(value).matches()) {
-            throw new DomainException("Invalid email format: " + value);
+        int errorPosition = findInvalidPosition(value);
+        if (errorPosition != VALID) {
+            throw new DomainException("Invalid email format: " + value + " (at position " + errorPosition + ")");
+        }
+        return new Email(toLowerCaseAscii(value));
+    }
+
+    /**
+     * Check whether a value is a valid email address, without throwing.
+     */
+    public static boolean isValid(String value) {
+        return value != null && !value.isEmpty() && findInvalidPosition(value) == VALID;
+    }
+
+    /**
+     * Scan the value once.
+     *
+     * Local part: one or more of {@code [A-Za-z0-9+_.-]}. Domain: two or more
+     * non-empty labels of {@code [A-Za-z0-9-]} separated by dots, the last one
+     * (TLD) being at least two letters.
+     *
+     * @return {@link #VALID}, or the position of the first offending char
+     *         (the length if the input ends too early)
+     */
+    private static int findInvalidPosition(String value) {
+        int length = value.length();
+        int i = 0;
+
+        // Local part
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (!isAsciiLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+                return i;
+            }
+            i++;
+        }
+        if (i == length) {
+            return length;
+        }
+        if (i == 0) {
+            return 0;
+        }
+        i++;
+
+        // Domain labels
+        int labels = 0;
+        int labelLength = 0;
+        boolean labelLettersOnly = true;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return i;
+                }
+                labels++;
+                labelLength = 0;
+                labelLettersOnly = true;
+            } else if (isAsciiLetter(c)) {
+                labelLength++;
+            } else if ((c >= '0' && c <= '9') || c == '-') {
+                labelLength++;
+                labelLettersOnly = false;
+            } else {
+                return i;
+            }
+            i++;
         }
+
+        // The last label is the TLD
+        if (labels == 0 || labelLength == 0) {
+            return length;
+        }
+        if (labelLength < 2 || !labelLettersOnly) {
+            return length - labelLength;
+        }
+        return VALID;
+    }
+
+    /**
+     * Lower-case ASCII letters, returning the value itself if it has none in upper case.
+     */
+    private static String toLowerCaseAscii(String value) {
+        int length = value.length();
+        int first = 0;
+        while (first < length && !isAsciiUpperCase(value.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        for (int i = first; i < length; i++) {
+            if (isAsciiUpperCase(chars[i])) {
+                chars[i] = (char) (chars[i] + ('a' - 'A'));
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isAsciiUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
     }
 
     public String getValue() {
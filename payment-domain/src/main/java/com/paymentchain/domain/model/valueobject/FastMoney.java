@@ -0,0 +1,191 @@
+package com.paymentchain.domain.model.valueobject;
+
+import com.paymentchain.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Value Object representing monetary amount as a fixed-point long.
+ *
+ * Primitive-backed counterpart of {@link Money} for hot aggregation paths:
+ * the amount is stored in minor units (cents) and the currency as its enum
+ * ordinal, so arithmetic never allocates intermediate BigDecimals.
+ * Conversion to and from {@link Money} is lossless.
+ *
+ * @author benas
+ */
+public final class FastMoney {
+
+    /**
+     * Number of decimal places, same scale used by {@link Money}.
+     */
+    public static final int SCALE = 2;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final long minorUnits;
+    private final int currencyOrdinal;
+
+    private FastMoney(long minorUnits, int currencyOrdinal) {
+        this.minorUnits = minorUnits;
+        this.currencyOrdinal = currencyOrdinal;
+    }
+
+    /**
+     * Factory method to create FastMoney from minor units (e.g. cents).
+     *
+     * @param minorUnits Amount in minor units
+     * @param currency Currency
+     * @return FastMoney instance
+     * @throws DomainException if amount is negative
+     */
+    public static FastMoney ofMinor(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new DomainException("Currency cannot be null");
+        }
+        if (minorUnits < 0) {
+            throw new DomainException("Amount cannot be negative");
+        }
+        return new FastMoney(minorUnits, currency.ordinal());
+    }
+
+    /**
+     * Factory method to create FastMoney from a decimal amount.
+     * Rounds to two decimal places with HALF_UP, like {@link Money}.
+     *
+     * @throws DomainException if amount is null, negative or too large
+     */
+    public static FastMoney of(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new DomainException("Amount cannot be null");
+        }
+        return ofMinor(toMinorUnits(amount), currency);
+    }
+
+    /**
+     * Factory method for zero amount.
+     */
+    public static FastMoney zero(Currency currency) {
+        return ofMinor(0L, currency);
+    }
+
+    /**
+     * Convert an existing Money instance.
+     */
+    public static FastMoney from(Money money) {
+        if (money == null) {
+            throw new DomainException("Money cannot be null");
+        }
+        return new FastMoney(toMinorUnits(money.getAmount()), money.getCurrency().ordinal());
+    }
+
+    /**
+     * Convert a decimal amount to minor units, rounding HALF_UP to two decimals.
+     *
+     * @throws DomainException if the amount does not fit in a long
+     */
+    static long toMinorUnits(BigDecimal amount) {
+        BigDecimal scaled = amount.scale() == SCALE ? amount : amount.setScale(SCALE, RoundingMode.HALF_UP);
+        try {
+            // Moving the point keeps the compact long form; unscaledValue() would allocate a BigInteger
+            return scaled.scaleByPowerOfTen(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new DomainException("Amount out of range: " + amount, e);
+        }
+    }
+
+    /**
+     * Add two money amounts (must be same currency).
+     *
+     * @throws DomainException on currency mismatch or overflow
+     */
+    public FastMoney add(FastMoney other) {
+        if (this.currencyOrdinal != other.currencyOrdinal) {
+            throw new DomainException("Cannot add different currencies");
+        }
+        return new FastMoney(addExact(this.minorUnits, other.minorUnits), this.currencyOrdinal);
+    }
+
+    /**
+     * Subtract money (must be same currency).
+     */
+    public FastMoney subtract(FastMoney other) {
+        if (this.currencyOrdinal != other.currencyOrdinal) {
+            throw new DomainException("Cannot subtract different currencies");
+        }
+        long result = this.minorUnits - other.minorUnits;
+        if (result < 0) {
+            throw new DomainException("Result cannot be negative");
+        }
+        return new FastMoney(result, this.currencyOrdinal);
+    }
+
+    /**
+     * Compare amounts (must be same currency).
+     */
+    public boolean isGreaterThan(FastMoney other) {
+        if (this.currencyOrdinal != other.currencyOrdinal) {
+            throw new DomainException("Cannot compare different currencies");
+        }
+        return this.minorUnits > other.minorUnits;
+    }
+
+    public boolean isLessThan(FastMoney other) {
+        if (this.currencyOrdinal != other.currencyOrdinal) {
+            throw new DomainException("Cannot compare different currencies");
+        }
+        return this.minorUnits < other.minorUnits;
+    }
+
+    public boolean isZero() {
+        return this.minorUnits == 0L;
+    }
+
+    static long addExact(long a, long b) {
+        long result = a + b;
+        // Overflow iff both operands have the same sign and the result's sign differs
+        if (((a ^ result) & (b ^ result)) < 0) {
+            throw new DomainException("Amount overflow");
+        }
+        return result;
+    }
+
+    /**
+     * Convert back to the BigDecimal-based Money.
+     */
+    public Money toMoney() {
+        return Money.of(BigDecimal.valueOf(minorUnits, SCALE), getCurrency());
+    }
+
+    // Getters
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Currency getCurrency() {
+        return CURRENCIES[currencyOrdinal];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FastMoney that = (FastMoney) o;
+        return minorUnits == that.minorUnits && currencyOrdinal == that.currencyOrdinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currencyOrdinal;
+    }
+
+    @Override
+    public String toString() {
+        return getAmount() + " " + getCurrency();
+    }
+}
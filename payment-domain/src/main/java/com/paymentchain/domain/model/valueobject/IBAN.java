@@ -2,20 +2,21 @@ package com.paymentchain.domain.model.valueobject;
 
 import com.paymentchain.domain.exception.DomainException;
 
+import java.nio.CharBuffer;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object for International Bank Account Number.
  *
- * Validates Spanish IBAN format.
+ * Validates the country structure of SEPA IBANs (see {@link IbanCountryRegistry})
+ * and the ISO 13616 mod-97 check digits. Parsing is a single char scan without
+ * regex or intermediate Strings; use {@link IbanCache} to reuse canonical
+ * instances of hot accounts.
  *
  * @author benas
  */
 public final class IBAN {
 
-    private static final Pattern SPANISH_IBAN_PATTERN = Pattern.compile("ES\\d{22}");
-
     private final String value;
 
     private IBAN(String value) {
@@ -25,31 +26,168 @@ public final class IBAN {
     /**
      * Factory method to create IBAN.
      *
-     * @param value IBAN string
+     * @param value IBAN string, spaces and lower case letters allowed
      * @return IBAN instance
-     * @throws DomainException if invalid format
+     * @throws DomainException if invalid format or check digits
      */
     public static IBAN of(String value) {
-        validate(value);
-        return new IBAN(value.toUpperCase().replaceAll("\\s", ""));
+        return new IBAN(normalize(value));
     }
 
-    private static void validate(String value) {
-        if (value == null || value.isBlank()) {
+    /**
+     * Normalize and validate in one pass: strips whitespace, upper-cases ASCII letters,
+     * checks the country structure and computes the mod-97 checksum.
+     *
+     * @return the compact upper-case IBAN, the input itself if it was already normalized
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            throw new DomainException("IBAN cannot be null or empty");
+        }
+
+        int inputLength = value.length();
+        char[] normalized = null;
+        int length = 0;
+        int expectedLength = IbanCountryRegistry.MAX_IBAN_LENGTH;
+        int countryIndex = -1;
+        // Leading "CCkk" block, moved to the end for the mod-97 computation
+        char country0 = 0;
+        char country1 = 0;
+        int checkDigits = 0;
+        int remainder = 0;
+
+        for (int i = 0; i < inputLength; i++) {
+            char c = value.charAt(i);
+            if (isWhitespace(c)) {
+                if (normalized == null) {
+                    normalized = copyPrefix(value, length);
+                }
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - ('a' - 'A'));
+                if (normalized == null) {
+                    normalized = copyPrefix(value, length);
+                }
+            }
+            if (length >= expectedLength) {
+                throw invalidFormat(value);
+            }
+
+            if (length == 0) {
+                country0 = c;
+            } else if (length == 1) {
+                country1 = c;
+                countryIndex = IbanCountryRegistry.countryIndex(country0, c);
+                if (countryIndex < 0) {
+                    throw invalidFormat(value);
+                }
+                expectedLength = IbanCountryRegistry.getIbanLength(countryIndex);
+                if (expectedLength == 0) {
+                    throw new DomainException("Unsupported IBAN country: " + value);
+                }
+            } else if (length < 4) {
+                if (c < '0' || c > '9') {
+                    throw invalidFormat(value);
+                }
+                checkDigits = checkDigits * 10 + (c - '0');
+            } else {
+                byte charClass = IbanCountryRegistry.getBbanCharClass(countryIndex, length - 4);
+                if (c >= '0' && c <= '9') {
+                    if (charClass == IbanCountryRegistry.LETTER) {
+                        throw invalidFormat(value);
+                    }
+                    remainder = (remainder * 10 + (c - '0')) % 97;
+                } else if (c >= 'A' && c <= 'Z') {
+                    if (charClass == IbanCountryRegistry.DIGIT) {
+                        throw invalidFormat(value);
+                    }
+                    remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+                } else {
+                    throw invalidFormat(value);
+                }
+            }
+
+            if (normalized != null) {
+                normalized[length] = c;
+            }
+            length++;
+        }
+
+        if (length == 0) {
             throw new DomainException("IBAN cannot be null or empty");
         }
+        if (length != expectedLength) {
+            throw invalidFormat(value);
+        }
 
-        String normalized = value.toUpperCase().replaceAll("\\s", "");
+        // 00, 01 and 99 are never issued, even when they satisfy mod-97
+        if (checkDigits < 2 || checkDigits > 98) {
+            throw new DomainException("Invalid IBAN check digits: " + value);
+        }
 
-        if (!SPANISH_IBAN_PATTERN.matcher(normalized).matches()) {
-            throw new DomainException("Invalid Spanish IBAN format: " + value);
+        // Append the country letters (two digits each) and the check digits
+        remainder = (remainder * 100 + (country0 - 'A' + 10)) % 97;
+        remainder = (remainder * 100 + (country1 - 'A' + 10)) % 97;
+        remainder = (remainder * 100 + checkDigits) % 97;
+        if (remainder != 1) {
+            throw new DomainException("Invalid IBAN check digits: " + value);
         }
+
+        return normalized == null ? value : new String(normalized, 0, length);
+    }
+
+    private static char[] copyPrefix(String value, int length) {
+        // Only reached before any char was dropped or changed, so the prefix is the input's
+        char[] buffer = new char[IbanCountryRegistry.MAX_IBAN_LENGTH];
+        value.getChars(0, length, buffer, 0);
+        return buffer;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+    }
+
+    private static DomainException invalidFormat(String value) {
+        return new DomainException("Invalid IBAN format: " + value);
     }
 
     public String getValue() {
         return value;
     }
 
+    /**
+     * Get the two-letter country code.
+     */
+    public String getCountryCode() {
+        return value.substring(0, 2);
+    }
+
+    /**
+     * Get the bank code as a zero-copy view over the IBAN value.
+     */
+    public CharSequence getBankCode() {
+        int countryIndex = IbanCountryRegistry.countryIndex(value.charAt(0), value.charAt(1));
+        return bbanView(IbanCountryRegistry.getBankCodeOffset(countryIndex),
+                IbanCountryRegistry.getBankCodeLength(countryIndex));
+    }
+
+    /**
+     * Get the branch code as a zero-copy view over the IBAN value.
+     *
+     * @return the branch code, empty if the country has none
+     */
+    public CharSequence getBranchCode() {
+        int countryIndex = IbanCountryRegistry.countryIndex(value.charAt(0), value.charAt(1));
+        return bbanView(IbanCountryRegistry.getBranchCodeOffset(countryIndex),
+                IbanCountryRegistry.getBranchCodeLength(countryIndex));
+    }
+
+    private CharSequence bbanView(int offset, int length) {
+        int start = 4 + offset;
+        return CharBuffer.wrap(value, start, start + length);
+    }
+
     /**
      * Get masked IBAN for display (ES12****5678).
      */
@@ -0,0 +1,84 @@
+package com.paymentchain.domain.model.valueobject;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free cache of parsed {@link IBAN} instances.
+ *
+ * Direct-mapped: each raw input hashes to a single slot and a newer entry simply
+ * replaces the older one, so memory stays fixed and no eviction bookkeeping is
+ * needed. Hot accounts keep returning the same canonical instance without being
+ * parsed again; invalid input is never cached.
+ *
+ * @author benas
+ */
+public final class IbanCache {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    public IbanCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public IbanCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int slots = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.entries = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Get the IBAN for the raw input, parsing it only on a cache miss.
+     *
+     * @throws com.paymentchain.domain.exception.DomainException if the input is not a valid IBAN
+     */
+    public IBAN get(String value) {
+        if (value == null) {
+            return IBAN.of(null);
+        }
+        int index = spread(value.hashCode()) & mask;
+        Entry entry = entries.get(index);
+        if (entry != null && entry.raw.equals(value)) {
+            return entry.iban;
+        }
+        IBAN iban = IBAN.of(value);
+        // Entry is immutable, so a release store is enough to publish it safely
+        entries.lazySet(index, new Entry(value, iban));
+        return iban;
+    }
+
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * Drop all cached entries.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        private final String raw;
+        private final IBAN iban;
+
+        private Entry(String raw, IBAN iban) {
+            this.raw = raw;
+            this.iban = iban;
+        }
+    }
+}
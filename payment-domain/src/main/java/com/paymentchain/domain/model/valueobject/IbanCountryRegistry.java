@@ -0,0 +1,176 @@
+package com.paymentchain.domain.model.valueobject;
+
+/**
+ * Registry of IBAN structures for SEPA countries.
+ *
+ * Loaded once into flat lookup tables indexed by the two-letter country code,
+ * so {@link IBAN} validates any supported IBAN in O(length) without regex or
+ * per-call allocation. BBAN layouts use the SWIFT IBAN registry notation
+ * ({@code n} digits, {@code a} upper case letters, {@code c} alphanumerics).
+ *
+ * @author benas
+ */
+public final class IbanCountryRegistry {
+
+    /** Longest IBAN allowed by ISO 13616. */
+    static final int MAX_IBAN_LENGTH = 34;
+
+    static final byte DIGIT = 1;
+    static final byte LETTER = 2;
+    static final byte ALPHANUMERIC = 3;
+
+    private static final int COUNTRY_SLOTS = 26 * 26;
+
+    private static final byte[] LENGTHS = new byte[COUNTRY_SLOTS];
+    private static final byte[][] BBAN_LAYOUTS = new byte[COUNTRY_SLOTS][];
+    private static final byte[] BANK_OFFSETS = new byte[COUNTRY_SLOTS];
+    private static final byte[] BANK_LENGTHS = new byte[COUNTRY_SLOTS];
+    private static final byte[] BRANCH_OFFSETS = new byte[COUNTRY_SLOTS];
+    private static final byte[] BRANCH_LENGTHS = new byte[COUNTRY_SLOTS];
+
+    static {
+        // country, IBAN length, BBAN layout, bank code offset/length, branch code offset/length (in the BBAN)
+        register("AD", 24, "4!n4!n12!c", 0, 4, 4, 4);
+        register("AT", 20, "5!n11!n", 0, 5, 0, 0);
+        register("BE", 16, "3!n7!n2!n", 0, 3, 0, 0);
+        register("BG", 22, "4!a4!n2!n8!c", 0, 4, 4, 4);
+        register("CH", 21, "5!n12!c", 0, 5, 0, 0);
+        register("CY", 28, "3!n5!n16!c", 0, 3, 3, 5);
+        register("CZ", 24, "4!n6!n10!n", 0, 4, 0, 0);
+        register("DE", 22, "8!n10!n", 0, 8, 0, 0);
+        register("DK", 18, "4!n9!n1!n", 0, 4, 0, 0);
+        register("EE", 20, "2!n2!n11!n1!n", 0, 2, 0, 0);
+        register("ES", 24, "4!n4!n1!n1!n10!n", 0, 4, 4, 4);
+        register("FI", 18, "3!n11!n", 0, 3, 0, 0);
+        register("FR", 27, "5!n5!n11!c2!n", 0, 5, 5, 5);
+        register("GB", 22, "4!a6!n8!n", 0, 4, 4, 6);
+        register("GI", 23, "4!a15!c", 0, 4, 0, 0);
+        register("GR", 27, "3!n4!n16!c", 0, 3, 3, 4);
+        register("HR", 21, "7!n10!n", 0, 7, 0, 0);
+        register("HU", 28, "3!n4!n1!n15!n1!n", 0, 3, 3, 4);
+        register("IE", 22, "4!a6!n8!n", 0, 4, 4, 6);
+        register("IS", 26, "4!n2!n6!n10!n", 0, 4, 0, 0);
+        register("IT", 27, "1!a5!n5!n12!c", 1, 5, 6, 5);
+        register("LI", 21, "5!n12!c", 0, 5, 0, 0);
+        register("LT", 20, "5!n11!n", 0, 5, 0, 0);
+        register("LU", 20, "3!n13!c", 0, 3, 0, 0);
+        register("LV", 21, "4!a13!c", 0, 4, 0, 0);
+        register("MC", 27, "5!n5!n11!c2!n", 0, 5, 5, 5);
+        register("MT", 31, "4!a5!n18!c", 0, 4, 4, 5);
+        register("NL", 18, "4!a10!n", 0, 4, 0, 0);
+        register("NO", 15, "4!n6!n1!n", 0, 4, 0, 0);
+        register("PL", 28, "8!n16!n", 0, 8, 0, 0);
+        register("PT", 25, "4!n4!n11!n2!n", 0, 4, 4, 4);
+        register("RO", 24, "4!a16!c", 0, 4, 0, 0);
+        register("SE", 24, "3!n16!n1!n", 0, 3, 0, 0);
+        register("SI", 19, "5!n8!n2!n", 0, 5, 0, 0);
+        register("SK", 24, "4!n6!n10!n", 0, 4, 0, 0);
+        register("SM", 27, "1!a5!n5!n12!c", 1, 5, 6, 5);
+        register("VA", 22, "3!n15!n", 0, 3, 0, 0);
+    }
+
+    private IbanCountryRegistry() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Check whether IBANs of the given country are supported.
+     */
+    public static boolean isSupported(String countryCode) {
+        return getIbanLength(countryCode) > 0;
+    }
+
+    /**
+     * Get the IBAN length for a country.
+     *
+     * @return the length, or 0 if the country is not supported
+     */
+    public static int getIbanLength(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2) {
+            return 0;
+        }
+        return getIbanLength(countryIndex(countryCode.charAt(0), countryCode.charAt(1)));
+    }
+
+    /**
+     * Table index of an upper case country code, or -1 if the chars are not letters A-Z.
+     */
+    static int countryIndex(char first, char second) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return -1;
+        }
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    static int getIbanLength(int countryIndex) {
+        return countryIndex < 0 ? 0 : LENGTHS[countryIndex];
+    }
+
+    /**
+     * Char class expected at a BBAN position ({@link #DIGIT}, {@link #LETTER} or {@link #ALPHANUMERIC}).
+     */
+    static byte getBbanCharClass(int countryIndex, int bbanPosition) {
+        return BBAN_LAYOUTS[countryIndex][bbanPosition];
+    }
+
+    static int getBankCodeOffset(int countryIndex) {
+        return BANK_OFFSETS[countryIndex];
+    }
+
+    static int getBankCodeLength(int countryIndex) {
+        return BANK_LENGTHS[countryIndex];
+    }
+
+    static int getBranchCodeOffset(int countryIndex) {
+        return BRANCH_OFFSETS[countryIndex];
+    }
+
+    static int getBranchCodeLength(int countryIndex) {
+        return BRANCH_LENGTHS[countryIndex];
+    }
+
+    private static void register(String country, int length, String bbanFormat,
+                                 int bankOffset, int bankLength, int branchOffset, int branchLength) {
+        int index = countryIndex(country.charAt(0), country.charAt(1));
+        byte[] layout = parseBbanFormat(bbanFormat);
+        if (layout.length != length - 4) {
+            throw new IllegalStateException("BBAN format does not match IBAN length for " + country);
+        }
+        LENGTHS[index] = (byte) length;
+        BBAN_LAYOUTS[index] = layout;
+        BANK_OFFSETS[index] = (byte) bankOffset;
+        BANK_LENGTHS[index] = (byte) bankLength;
+        BRANCH_OFFSETS[index] = (byte) branchOffset;
+        BRANCH_LENGTHS[index] = (byte) branchLength;
+    }
+
+    /**
+     * Expand a SWIFT format such as {@code 4!n4!n12!c} into one char class per BBAN position.
+     */
+    private static byte[] parseBbanFormat(String format) {
+        byte[] layout = new byte[MAX_IBAN_LENGTH];
+        int size = 0;
+        int i = 0;
+        while (i < format.length()) {
+            int count = 0;
+            while (Character.isDigit(format.charAt(i))) {
+                count = count * 10 + (format.charAt(i++) - '0');
+            }
+            if (format.charAt(i++) != '!') {
+                throw new IllegalStateException("Invalid BBAN format: " + format);
+            }
+            byte charClass = switch (format.charAt(i++)) {
+                case 'n' -> DIGIT;
+                case 'a' -> LETTER;
+                case 'c' -> ALPHANUMERIC;
+                default -> throw new IllegalStateException("Invalid BBAN format: " + format);
+            };
+            for (int j = 0; j < count; j++) {
+                layout[size++] = charClass;
+            }
+        }
+        byte[] result = new byte[size];
+        System.arraycopy(layout, 0, result, 0, size);
+        return result;
+    }
+}
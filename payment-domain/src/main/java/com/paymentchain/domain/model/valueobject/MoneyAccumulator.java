@@ -0,0 +1,129 @@
+package com.paymentchain.domain.model.valueobject;
+
+import com.paymentchain.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Mutable per-currency accumulator for bulk money sums.
+ *
+ * Keeps one long slot (minor units) per {@link Currency} constant, so folding
+ * millions of amounts does not create intermediate Money instances and mixed
+ * currencies are summed side by side instead of failing.
+ *
+ * Not thread-safe; use {@link StripedMoneyAccumulator} for parallel aggregation.
+ *
+ * @author benas
+ */
+public final class MoneyAccumulator {
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final long[] totals = new long[CURRENCIES.length];
+    private final long[] counts = new long[CURRENCIES.length];
+
+    /**
+     * Add a Money amount to its currency slot.
+     */
+    public MoneyAccumulator add(Money money) {
+        return addMinorUnits(money.getCurrency(), FastMoney.toMinorUnits(money.getAmount()));
+    }
+
+    /**
+     * Add a FastMoney amount to its currency slot.
+     */
+    public MoneyAccumulator add(FastMoney money) {
+        return addMinorUnits(money.getCurrency(), money.getMinorUnits());
+    }
+
+    /**
+     * Add a decimal amount, rounded HALF_UP to two decimals like {@link Money}.
+     */
+    public MoneyAccumulator add(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new DomainException("Amount cannot be null");
+        }
+        return addMinorUnits(currency, FastMoney.toMinorUnits(amount));
+    }
+
+    /**
+     * Add a raw amount in minor units (e.g. cents).
+     *
+     * @throws DomainException if the amount is negative or the sum overflows
+     */
+    public MoneyAccumulator addMinorUnits(Currency currency, long minorUnits) {
+        if (minorUnits < 0) {
+            throw new DomainException("Amount cannot be negative");
+        }
+        int slot = currency.ordinal();
+        totals[slot] = FastMoney.addExact(totals[slot], minorUnits);
+        counts[slot]++;
+        return this;
+    }
+
+    /**
+     * Merge the totals of another accumulator into this one.
+     */
+    public MoneyAccumulator merge(MoneyAccumulator other) {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = FastMoney.addExact(totals[i], other.totals[i]);
+            counts[i] += other.counts[i];
+        }
+        return this;
+    }
+
+    void addSlot(int slot, long minorUnits, long count) {
+        totals[slot] = FastMoney.addExact(totals[slot], minorUnits);
+        counts[slot] += count;
+    }
+
+    /**
+     * Get the accumulated total in minor units for a currency.
+     */
+    public long getMinorUnits(Currency currency) {
+        return totals[currency.ordinal()];
+    }
+
+    /**
+     * Get the number of amounts added for a currency.
+     */
+    public long getCount(Currency currency) {
+        return counts[currency.ordinal()];
+    }
+
+    /**
+     * Get the accumulated total for a currency.
+     */
+    public Money total(Currency currency) {
+        return FastMoney.ofMinor(totals[currency.ordinal()], currency).toMoney();
+    }
+
+    /**
+     * Get totals for every currency that received at least one amount.
+     */
+    public Map<Currency, Money> totals() {
+        Map<Currency, Money> result = new EnumMap<>(Currency.class);
+        for (Currency currency : CURRENCIES) {
+            if (counts[currency.ordinal()] > 0) {
+                result.put(currency, total(currency));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reset all slots to zero so the accumulator can be reused.
+     */
+    public void reset() {
+        Arrays.fill(totals, 0L);
+        Arrays.fill(counts, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return "MoneyAccumulator" + totals();
+    }
+}
@@ -0,0 +1,156 @@
+package com.paymentchain.domain.model.valueobject;
+
+import com.paymentchain.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, striped variant of {@link MoneyAccumulator} for parallel aggregation.
+ *
+ * Each stripe holds one total and one count slot per {@link Currency} and is padded
+ * to its own cache line; threads are spread over the stripes by thread id, so
+ * concurrent writers rarely contend on the same slot. Overflow is still detected
+ * on every add.
+ *
+ * Reads ({@link #snapshot()}, {@link #total(Currency)}) are exact once writers
+ * have finished; while writers are active they return a point-in-time estimate.
+ *
+ * @author benas
+ */
+public final class StripedMoneyAccumulator {
+
+    private static final int CURRENCY_COUNT = Currency.values().length;
+    private static final int LONGS_PER_CACHE_LINE = 8;
+    /** Longs per stripe: totals followed by counts, rounded up to whole cache lines. */
+    private static final int STRIDE =
+            ((2 * CURRENCY_COUNT + LONGS_PER_CACHE_LINE - 1) / LONGS_PER_CACHE_LINE) * LONGS_PER_CACHE_LINE;
+
+    private final AtomicLongArray cells;
+    private final int stripeMask;
+
+    public StripedMoneyAccumulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency expected number of concurrent writers, rounded up to a power of two
+     */
+    public StripedMoneyAccumulator(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        int stripes = 1 << (32 - Integer.numberOfLeadingZeros(concurrency - 1));
+        this.stripeMask = stripes - 1;
+        // Leading cache line keeps the first stripe away from the array header
+        this.cells = new AtomicLongArray(LONGS_PER_CACHE_LINE + stripes * STRIDE);
+    }
+
+    /**
+     * Add a Money amount to its currency slot.
+     */
+    public void add(Money money) {
+        addMinorUnits(money.getCurrency(), FastMoney.toMinorUnits(money.getAmount()));
+    }
+
+    /**
+     * Add a FastMoney amount to its currency slot.
+     */
+    public void add(FastMoney money) {
+        addMinorUnits(money.getCurrency(), money.getMinorUnits());
+    }
+
+    /**
+     * Add a decimal amount, rounded HALF_UP to two decimals like {@link Money}.
+     */
+    public void add(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new DomainException("Amount cannot be null");
+        }
+        addMinorUnits(currency, FastMoney.toMinorUnits(amount));
+    }
+
+    /**
+     * Add a raw amount in minor units (e.g. cents).
+     *
+     * @throws DomainException if the amount is negative or the stripe total overflows
+     */
+    public void addMinorUnits(Currency currency, long minorUnits) {
+        if (minorUnits < 0) {
+            throw new DomainException("Amount cannot be negative");
+        }
+        int base = stripeBase();
+        int totalIndex = base + currency.ordinal();
+        long current;
+        long updated;
+        do {
+            current = cells.get(totalIndex);
+            updated = FastMoney.addExact(current, minorUnits);
+        } while (!cells.compareAndSet(totalIndex, current, updated));
+        cells.getAndIncrement(base + CURRENCY_COUNT + currency.ordinal());
+    }
+
+    /**
+     * Get the accumulated total in minor units for a currency.
+     */
+    public long getMinorUnits(Currency currency) {
+        long sum = 0L;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            sum = FastMoney.addExact(sum, cells.get(baseOf(stripe) + currency.ordinal()));
+        }
+        return sum;
+    }
+
+    /**
+     * Get the accumulated total for a currency.
+     */
+    public Money total(Currency currency) {
+        return FastMoney.ofMinor(getMinorUnits(currency), currency).toMoney();
+    }
+
+    /**
+     * Get totals for every currency that received at least one amount.
+     */
+    public Map<Currency, Money> totals() {
+        return snapshot().totals();
+    }
+
+    /**
+     * Fold all stripes into a single-threaded accumulator.
+     */
+    public MoneyAccumulator snapshot() {
+        MoneyAccumulator snapshot = new MoneyAccumulator();
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int base = baseOf(stripe);
+            for (int slot = 0; slot < CURRENCY_COUNT; slot++) {
+                snapshot.addSlot(slot, cells.get(base + slot), cells.get(base + CURRENCY_COUNT + slot));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reset all stripes to zero. Must not run concurrently with writers.
+     */
+    public void reset() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0L);
+        }
+    }
+
+    private int stripeBase() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+        return baseOf(hash & stripeMask);
+    }
+
+    private static int baseOf(int stripe) {
+        return LONGS_PER_CACHE_LINE + stripe * STRIDE;
+    }
+
+    @Override
+    public String toString() {
+        return "StripedMoneyAccumulator" + totals();
+    }
+}
@@ -0,0 +1,42 @@
+package com.paymentchain.domain.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DomainExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        DomainException.setStackTraceEnabled(true);
+    }
+
+    @Test
+    void shouldFillStackTraceByDefault() {
+        DomainException exception = new DomainException("Declined");
+
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldSkipStackTraceWhenDisabled() {
+        DomainException.setStackTraceEnabled(false);
+
+        BusinessRuleException exception = new BusinessRuleException("LIMIT", "Daily limit exceeded");
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage()).isEqualTo("Daily limit exceeded");
+        assertThat(exception.getRuleViolated()).isEqualTo("LIMIT");
+    }
+
+    @Test
+    void shouldKeepStackTraceWhenWrappingCause() {
+        DomainException.setStackTraceEnabled(false);
+
+        DomainException exception = new DomainException("Failed", new IllegalStateException("cause"));
+
+        assertThat(exception.getStackTrace()).isNotEmpty();
+        assertThat(exception.getCause()).hasMessage("cause");
+    }
+}
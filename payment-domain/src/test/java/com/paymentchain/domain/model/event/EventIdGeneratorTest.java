@@ -0,0 +1,138 @@
+package com.paymentchain.domain.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for event id generation and DomainEvent identity.
+ */
+class EventIdGeneratorTest {
+
+    private static final Instant FIXED_TIME = Instant.parse("2024-11-18T10:30:00Z");
+
+    @Test
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = UUID.fromString(EventIdGenerator.uuidV7().nextId());
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEncodeTimestampInMostSignificantBits() {
+        UuidV7EventIdGenerator generator = new UuidV7EventIdGenerator(Clock.fixed(FIXED_TIME, ZoneOffset.UTC));
+
+        UUID uuid = generator.nextUuid();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(FIXED_TIME.toEpochMilli());
+    }
+
+    @Test
+    void shouldBeMonotonicWithinSameMillisecond() {
+        UuidV7EventIdGenerator generator = new UuidV7EventIdGenerator(Clock.fixed(FIXED_TIME, ZoneOffset.UTC));
+
+        String previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldAssignIdEagerlyFromOccurredOn() {
+        int[] calls = new int[1];
+        EventIdentity identity = EventIdentity.of(Clock.fixed(FIXED_TIME, ZoneOffset.UTC), () -> "id-" + ++calls[0]);
+
+        TestEvent event = new TestEvent(identity);
+
+        assertThat(calls[0]).isEqualTo(1);
+        assertThat(event.getEventId()).isEqualTo("id-1");
+        assertThat(event.getEventId()).isEqualTo("id-1");
+        assertThat(calls[0]).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEmbedOccurredOnInUuidV7Id() {
+        EventIdentity identity = EventIdentity.of(Clock.fixed(FIXED_TIME, ZoneOffset.UTC),
+            new UuidV7EventIdGenerator(Clock.systemUTC()));
+
+        TestEvent event = new TestEvent(identity);
+
+        UUID uuid = UUID.fromString(event.getEventId());
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(event.getOccurredOn().toEpochMilli());
+        assertThat(event.getOccurredOn()).isEqualTo(FIXED_TIME);
+        assertThat(event.getEventType()).isEqualTo("TestEvent");
+    }
+
+    @Test
+    void shouldRestoreIdentityOnlyBeforeIdIsRead() {
+        TestEvent event = new TestEvent();
+
+        event.restoreIdentity("producer-id", FIXED_TIME);
+
+        assertThat(event.getEventId()).isEqualTo("producer-id");
+        assertThat(event.getOccurredOn()).isEqualTo(FIXED_TIME);
+        assertThatThrownBy(() -> event.restoreIdentity("other-id", null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(event.getEventId()).isEqualTo("producer-id");
+    }
+
+    @Test
+    void shouldNotRestoreIdentityOfCreatedEvent() {
+        TestEvent event = new TestEvent(EventIdentity.of(Clock.fixed(FIXED_TIME, ZoneOffset.UTC), () -> "id-1"));
+
+        assertThatThrownBy(() -> event.restoreIdentity("other-id", Instant.EPOCH))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(event.getEventId()).isEqualTo("id-1");
+        assertThat(event.getOccurredOn()).isEqualTo(FIXED_TIME);
+    }
+
+    @Test
+    void shouldCombineSetterValuesOnFirstRead() {
+        TestEvent event = new TestEvent();
+
+        event.setOccurredOn(FIXED_TIME);
+        event.setEventId("producer-id");
+
+        assertThat(event.getOccurredOn()).isEqualTo(FIXED_TIME);
+        assertThat(event.getEventId()).isEqualTo("producer-id");
+        assertThatThrownBy(() -> event.setEventId("other-id"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldAssignMissingIdentityOnceOnFirstRead() throws Exception {
+        TestEvent event = new TestEvent();
+        event.setOccurredOn(FIXED_TIME);
+        String[] ids = new String[8];
+        Thread[] readers = new Thread[ids.length];
+        for (int i = 0; i < readers.length; i++) {
+            int index = i;
+            readers[i] = new Thread(() -> ids[index] = event.getEventId());
+            readers[i].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertThat(ids).containsOnly(ids[0]);
+        assertThat(UUID.fromString(ids[0]).version()).isEqualTo(7);
+        assertThat(event.getOccurredOn()).isEqualTo(FIXED_TIME);
+    }
+
+    private static class TestEvent extends DomainEvent {
+        TestEvent() {
+        }
+
+        TestEvent(EventIdentity identity) {
+            super(identity);
+        }
+    }
+}
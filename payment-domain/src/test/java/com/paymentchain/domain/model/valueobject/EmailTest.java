@@ -103,4 +103,48 @@ class EmailTest {
 
         assertThat(email1.hashCode()).isEqualTo(email2.hashCode());
     }
+
+    @Test
+    void shouldAcceptPlusTagsAndSubdomains() {
+        Email email = Email.of("first.last+tag@mail.example.co.uk");
+
+        assertThat(email.getValue()).isEqualTo("first.last+tag@mail.example.co.uk");
+    }
+
+    @Test
+    void shouldReuseAlreadyLowerCaseValue() {
+        String value = "user@example.com";
+
+        assertThat(Email.of(value).getValue()).isSameAs(value);
+    }
+
+    @Test
+    void shouldRejectEmptyDomainLabel() {
+        assertThatThrownBy(() -> Email.of("user@example..com"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Invalid email format")
+            .hasMessageContaining("position 13");
+    }
+
+    @Test
+    void shouldRejectNumericTopLevelDomain() {
+        assertThatThrownBy(() -> Email.of("user@example.c0m"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("position 13");
+    }
+
+    @Test
+    void shouldRejectInvalidLocalPartCharacter() {
+        assertThatThrownBy(() -> Email.of("us er@example.com"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("position 2");
+    }
+
+    @Test
+    void shouldValidateWithoutThrowing() {
+        assertThat(Email.isValid("user@example.com")).isTrue();
+        assertThat(Email.isValid("user@example")).isFalse();
+        assertThat(Email.isValid("@example.com")).isFalse();
+        assertThat(Email.isValid(null)).isFalse();
+    }
 }
@@ -0,0 +1,149 @@
+package com.paymentchain.domain.model.valueobject;
+
+import com.paymentchain.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for FastMoney value object.
+ */
+class FastMoneyTest {
+
+    @Test
+    void shouldCreateFromMinorUnits() {
+        FastMoney money = FastMoney.ofMinor(10050, Currency.EUR);
+
+        assertThat(money.getMinorUnits()).isEqualTo(10050);
+        assertThat(money.getAmount()).isEqualByComparingTo(new BigDecimal("100.50"));
+        assertThat(money.getCurrency()).isEqualTo(Currency.EUR);
+    }
+
+    @Test
+    void shouldRoundToTwoDecimalPlaces() {
+        FastMoney money = FastMoney.of(new BigDecimal("100.999"), Currency.EUR);
+
+        assertThat(money.getMinorUnits()).isEqualTo(10100);
+    }
+
+    @Test
+    void shouldRejectNegativeAmount() {
+        assertThatThrownBy(() -> FastMoney.ofMinor(-1, Currency.EUR))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("negative");
+    }
+
+    @Test
+    void shouldRejectNullCurrency() {
+        assertThatThrownBy(() -> FastMoney.ofMinor(100, null))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("null");
+    }
+
+    @Test
+    void shouldAddMoneyOfSameCurrency() {
+        FastMoney result = FastMoney.ofMinor(10000, Currency.EUR)
+            .add(FastMoney.ofMinor(5000, Currency.EUR));
+
+        assertThat(result.getMinorUnits()).isEqualTo(15000);
+    }
+
+    @Test
+    void shouldRejectAddingDifferentCurrencies() {
+        FastMoney eur = FastMoney.ofMinor(100, Currency.EUR);
+        FastMoney usd = FastMoney.ofMinor(100, Currency.USD);
+
+        assertThatThrownBy(() -> eur.add(usd))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("different currencies");
+    }
+
+    @Test
+    void shouldDetectOverflow() {
+        FastMoney max = FastMoney.ofMinor(Long.MAX_VALUE, Currency.EUR);
+
+        assertThatThrownBy(() -> max.add(FastMoney.ofMinor(1, Currency.EUR)))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("overflow");
+    }
+
+    @Test
+    void shouldRejectAmountOutOfRange() {
+        BigDecimal tooLarge = new BigDecimal(Long.MAX_VALUE).multiply(BigDecimal.TEN);
+
+        assertThatThrownBy(() -> FastMoney.of(tooLarge, Currency.EUR))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("out of range");
+    }
+
+    @Test
+    void shouldConvertAmountsUpToLongRange() {
+        BigDecimal largest = BigDecimal.valueOf(Long.MAX_VALUE, FastMoney.SCALE);
+
+        assertThat(FastMoney.toMinorUnits(largest)).isEqualTo(Long.MAX_VALUE);
+        assertThat(FastMoney.toMinorUnits(new BigDecimal("12.3"))).isEqualTo(1230L);
+        assertThat(FastMoney.toMinorUnits(new BigDecimal("1E+3"))).isEqualTo(100_000L);
+        assertThatThrownBy(() -> FastMoney.toMinorUnits(largest.add(new BigDecimal("0.01"))))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("out of range");
+    }
+
+    @Test
+    void shouldSubtractMoneyOfSameCurrency() {
+        FastMoney result = FastMoney.ofMinor(10000, Currency.EUR)
+            .subtract(FastMoney.ofMinor(3000, Currency.EUR));
+
+        assertThat(result.getMinorUnits()).isEqualTo(7000);
+    }
+
+    @Test
+    void shouldRejectSubtractingResultingInNegative() {
+        FastMoney money1 = FastMoney.ofMinor(5000, Currency.EUR);
+        FastMoney money2 = FastMoney.ofMinor(10000, Currency.EUR);
+
+        assertThatThrownBy(() -> money1.subtract(money2))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("negative");
+    }
+
+    @Test
+    void shouldCompareAmounts() {
+        FastMoney greater = FastMoney.ofMinor(10000, Currency.EUR);
+        FastMoney lesser = FastMoney.ofMinor(5000, Currency.EUR);
+
+        assertThat(greater.isGreaterThan(lesser)).isTrue();
+        assertThat(lesser.isLessThan(greater)).isTrue();
+        assertThat(FastMoney.zero(Currency.EUR).isZero()).isTrue();
+    }
+
+    @Test
+    void shouldConvertLosslesslyFromAndToMoney() {
+        Money money = Money.of(new BigDecimal("1234.56"), Currency.GBP);
+
+        FastMoney fast = FastMoney.from(money);
+
+        assertThat(fast.getMinorUnits()).isEqualTo(123456);
+        assertThat(fast.getCurrency()).isEqualTo(Currency.GBP);
+        assertThat(fast.toMoney()).isEqualTo(money);
+    }
+
+    @Test
+    void shouldHandleEqualityCorrectly() {
+        FastMoney money1 = FastMoney.ofMinor(10000, Currency.EUR);
+        FastMoney money2 = FastMoney.of(new BigDecimal("100"), Currency.EUR);
+        FastMoney money3 = FastMoney.ofMinor(10000, Currency.USD);
+
+        assertThat(money1).isEqualTo(money2);
+        assertThat(money1.hashCode()).isEqualTo(money2.hashCode());
+        assertThat(money1).isNotEqualTo(money3);
+    }
+
+    @Test
+    void shouldProduceSameToStringAsMoney() {
+        FastMoney money = FastMoney.ofMinor(10050, Currency.EUR);
+
+        assertThat(money.toString()).isEqualTo(money.toMoney().toString());
+    }
+}
@@ -2,6 +2,8 @@ package com.paymentchain.domain.model.valueobject;
 
 import com.paymentchain.domain.exception.DomainException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -9,21 +11,21 @@ class IBANTest {
 
     @Test
     void shouldCreateValidSpanishIBAN() {
-        IBAN iban = IBAN.of("ES1234567890123456789012");
+        IBAN iban = IBAN.of("ES8134567890123456789012");
 
-        assertThat(iban.getValue()).isEqualTo("ES1234567890123456789012");
+        assertThat(iban.getValue()).isEqualTo("ES8134567890123456789012");
     }
 
     @Test
     void shouldNormalizeIBANWithSpaces() {
-        IBAN iban = IBAN.of("ES12 3456 7890 1234 5678 9012");
+        IBAN iban = IBAN.of("ES81 3456 7890 1234 5678 9012");
 
-        assertThat(iban.getValue()).isEqualTo("ES1234567890123456789012");
+        assertThat(iban.getValue()).isEqualTo("ES8134567890123456789012");
     }
 
     @Test
     void shouldConvertToUpperCase() {
-        IBAN iban = IBAN.of("es1234567890123456789012");
+        IBAN iban = IBAN.of("es8134567890123456789012");
 
         assertThat(iban.getValue()).startsWith("ES");
     }
@@ -43,24 +45,80 @@ class IBANTest {
     }
 
     @Test
-    void shouldRejectNonSpanishIBAN() {
+    void shouldRejectWrongLengthForCountry() {
         assertThatThrownBy(() -> IBAN.of("FR1234567890123456789012"))
             .isInstanceOf(DomainException.class);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "DE89370400440532013000",
+        "GB29NWBK60161331926819",
+        "FR1420041010050500013M02606",
+        "NL91ABNA0417164300",
+        "IT60X0542811101000000123456",
+        "BE68539007547034",
+        "AT611904300234573201"
+    })
+    void shouldAcceptSepaIBANs(String value) {
+        IBAN iban = IBAN.of(value);
+
+        assertThat(iban.getValue()).isEqualTo(value);
+    }
+
+    @Test
+    void shouldRejectUnsupportedCountry() {
+        assertThatThrownBy(() -> IBAN.of("US12345678901234567890"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Unsupported");
+    }
+
+    @Test
+    void shouldRejectDigitWhereLetterExpected() {
+        // GB bank code is four letters
+        assertThatThrownBy(() -> IBAN.of("GB29123460161331926819"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Invalid");
+    }
+
+    @Test
+    void shouldExtractBankAndBranchCodes() {
+        IBAN iban = IBAN.of("GB29 NWBK 6016 1331 9268 19");
+
+        assertThat(iban.getCountryCode()).isEqualTo("GB");
+        assertThat(iban.getBankCode().toString()).isEqualTo("NWBK");
+        assertThat(iban.getBranchCode().toString()).isEqualTo("601613");
+    }
+
+    @Test
+    void shouldExtractItalianBankCodeAfterCheckCharacter() {
+        IBAN iban = IBAN.of("IT60X0542811101000000123456");
+
+        assertThat(iban.getBankCode().toString()).isEqualTo("05428");
+        assertThat(iban.getBranchCode().toString()).isEqualTo("11101");
+    }
+
+    @Test
+    void shouldReturnEmptyBranchCodeWhenCountryHasNone() {
+        IBAN iban = IBAN.of("DE89370400440532013000");
+
+        assertThat(iban.getBankCode().toString()).isEqualTo("37040044");
+        assertThat(iban.getBranchCode()).isEmpty();
+    }
+
     @Test
     void shouldMaskIBAN() {
-        IBAN iban = IBAN.of("ES1234567890123456789012");
+        IBAN iban = IBAN.of("ES8134567890123456789012");
 
         String masked = iban.getMasked();
 
-        assertThat(masked).isEqualTo("ES12****9012");
+        assertThat(masked).isEqualTo("ES81****9012");
     }
 
     @Test
     void shouldBeEqual() {
-        IBAN iban1 = IBAN.of("ES1234567890123456789012");
-        IBAN iban2 = IBAN.of("ES12 3456 7890 1234 5678 9012");
+        IBAN iban1 = IBAN.of("ES8134567890123456789012");
+        IBAN iban2 = IBAN.of("ES81 3456 7890 1234 5678 9012");
 
         assertThat(iban1).isEqualTo(iban2);
     }
@@ -81,16 +139,79 @@ class IBANTest {
 
     @Test
     void shouldHandleToStringCorrectly() {
-        IBAN iban = IBAN.of("ES1234567890123456789012");
+        IBAN iban = IBAN.of("ES8134567890123456789012");
 
-        assertThat(iban.toString()).isEqualTo("ES1234567890123456789012");
+        assertThat(iban.toString()).isEqualTo("ES8134567890123456789012");
     }
 
     @Test
     void shouldHandleHashCodeCorrectly() {
-        IBAN iban1 = IBAN.of("ES1234567890123456789012");
-        IBAN iban2 = IBAN.of("ES1234567890123456789012");
+        IBAN iban1 = IBAN.of("ES8134567890123456789012");
+        IBAN iban2 = IBAN.of("ES8134567890123456789012");
 
         assertThat(iban1.hashCode()).isEqualTo(iban2.hashCode());
     }
+
+    @Test
+    void shouldRejectInvalidCheckDigits() {
+        assertThatThrownBy(() -> IBAN.of("ES1234567890123456789012"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("check digits");
+    }
+
+    @Test
+    void shouldRejectReservedCheckDigitsThatPassMod97() {
+        assertThat(IBAN.of("ES0221000418450000000037").getValue()).isEqualTo("ES0221000418450000000037");
+
+        for (String value : new String[] {
+                "ES0021000418450000000073",
+                "ES0121000418450000000055",
+                "ES9921000418450000000037"}) {
+            assertThatThrownBy(() -> IBAN.of(value))
+                .isInstanceOf(DomainException.class)
+                .hasMessageContaining("check digits");
+        }
+    }
+
+    @Test
+    void shouldRejectLettersInSpanishBBAN() {
+        assertThatThrownBy(() -> IBAN.of("ES81345678901234567890AB"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Invalid");
+    }
+
+    @Test
+    void shouldRejectTooLongIBAN() {
+        assertThatThrownBy(() -> IBAN.of("ES81345678901234567890123"))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("Invalid");
+    }
+
+    @Test
+    void shouldReuseAlreadyNormalizedInput() {
+        String value = "ES9121000418450200051332";
+
+        assertThat(IBAN.of(value).getValue()).isSameAs(value);
+    }
+
+    @Test
+    void shouldReturnCanonicalInstanceFromCache() {
+        IbanCache cache = new IbanCache(16);
+
+        IBAN first = cache.get("ES8134567890123456789012");
+        IBAN second = cache.get("ES8134567890123456789012");
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldNotCacheInvalidIBAN() {
+        IbanCache cache = new IbanCache(16);
+
+        assertThatThrownBy(() -> cache.get("ES1234567890123456789012"))
+            .isInstanceOf(DomainException.class);
+        assertThatThrownBy(() -> cache.get("ES1234567890123456789012"))
+            .isInstanceOf(DomainException.class);
+    }
 }
@@ -0,0 +1,92 @@
+package com.paymentchain.domain.model.valueobject;
+
+import com.paymentchain.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for MoneyAccumulator.
+ */
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldSumMixedCurrenciesSideBySide() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+            .add(Money.of(new BigDecimal("100.50"), Currency.EUR))
+            .add(FastMoney.ofMinor(2550, Currency.EUR))
+            .add(new BigDecimal("10"), Currency.USD)
+            .addMinorUnits(Currency.GBP, 1);
+
+        assertThat(accumulator.total(Currency.EUR)).isEqualTo(Money.of(new BigDecimal("126.00"), Currency.EUR));
+        assertThat(accumulator.total(Currency.USD)).isEqualTo(Money.of(new BigDecimal("10.00"), Currency.USD));
+        assertThat(accumulator.getMinorUnits(Currency.GBP)).isEqualTo(1);
+        assertThat(accumulator.getCount(Currency.EUR)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyReportCurrenciesThatReceivedAmounts() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+            .add(Money.zero(Currency.USD));
+
+        Map<Currency, Money> totals = accumulator.totals();
+
+        assertThat(totals).containsOnlyKeys(Currency.USD);
+        assertThat(totals.get(Currency.USD).isZero()).isTrue();
+    }
+
+    @Test
+    void shouldRejectNegativeMinorUnits() {
+        assertThatThrownBy(() -> new MoneyAccumulator().addMinorUnits(Currency.EUR, -1))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("negative");
+    }
+
+    @Test
+    void shouldDetectOverflow() {
+        MoneyAccumulator accumulator = new MoneyAccumulator().addMinorUnits(Currency.EUR, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> accumulator.addMinorUnits(Currency.EUR, 1))
+            .isInstanceOf(DomainException.class)
+            .hasMessageContaining("overflow");
+    }
+
+    @Test
+    void shouldMergeAndReset() {
+        MoneyAccumulator first = new MoneyAccumulator().addMinorUnits(Currency.EUR, 100);
+        MoneyAccumulator second = new MoneyAccumulator().addMinorUnits(Currency.EUR, 50);
+
+        first.merge(second);
+        assertThat(first.getMinorUnits(Currency.EUR)).isEqualTo(150);
+        assertThat(first.getCount(Currency.EUR)).isEqualTo(2);
+
+        first.reset();
+        assertThat(first.totals()).isEmpty();
+    }
+
+    @Test
+    void shouldAggregateConcurrentlyWithStripedVariant() throws InterruptedException {
+        StripedMoneyAccumulator accumulator = new StripedMoneyAccumulator(4);
+        Thread[] workers = new Thread[8];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    accumulator.addMinorUnits(Currency.EUR, 1);
+                    accumulator.add(FastMoney.ofMinor(2, Currency.USD));
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertThat(accumulator.getMinorUnits(Currency.EUR)).isEqualTo(80_000);
+        assertThat(accumulator.total(Currency.USD)).isEqualTo(Money.of(new BigDecimal("1600.00"), Currency.USD));
+        assertThat(accumulator.snapshot().getCount(Currency.USD)).isEqualTo(80_000);
+        assertThat(accumulator.totals()).containsOnlyKeys(Currency.EUR, Currency.USD);
+    }
+}
@@ -0,0 +1,105 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+
+/**
+ * Compact binary codec for the events in com.paymentchain.events.
+ *
+ * Layout: one format version byte, the varint event type id, then tagged fields
+ * (see {@link WireFormat}): the event id as 16 raw UUID bytes, timestamps as
+ * epoch seconds plus nanos, amounts as varint minor units, and well-known
+ * currency/status values as varint codes. Unknown tags are skipped and missing
+ * fields stay null, so producers and consumers can be upgraded independently.
+ *
+ * Stateless and thread-safe.
+ *
+ * @author benas
+ */
+public final class BinaryEventCodec {
+
+    /** Format version written in the header; bumped only for incompatible changes. */
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final int MAX_EVENT_SIZE = 16 * 1024 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
+    /**
+     * Encode an event into a new byte array.
+     */
+    public byte[] encode(DomainEvent event) {
+        ByteBuffer buffer = SCRATCH.get();
+        while (true) {
+            buffer.clear();
+            try {
+                encode(event, buffer);
+                break;
+            } catch (BufferOverflowException e) {
+                if (buffer.capacity() >= MAX_EVENT_SIZE) {
+                    throw new EventCodecException("Event exceeds " + MAX_EVENT_SIZE + " bytes", e);
+                }
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                SCRATCH.set(buffer);
+            }
+        }
+        byte[] bytes = new byte[buffer.position()];
+        buffer.flip().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Encode an event at the buffer's position.
+     *
+     * @throws BufferOverflowException if the buffer is too small; its position is then undefined
+     */
+    public void encode(DomainEvent event, ByteBuffer target) {
+        if (event == null) {
+            throw new EventCodecException("Event cannot be null");
+        }
+        EventSchema<?> schema = EventSchemas.forType(event.getClass());
+        target.put(FORMAT_VERSION);
+        WireFormat.writeVarint(target, schema.getTypeId());
+        schema.write(event, target);
+    }
+
+    /**
+     * Decode an event from a byte array.
+     */
+    public DomainEvent decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decode an event from a byte array, checking its type.
+     */
+    public <E extends DomainEvent> E decode(byte[] bytes, Class<E> type) {
+        DomainEvent event = decode(bytes);
+        if (!type.isInstance(event)) {
+            throw new EventCodecException("Expected " + type.getSimpleName() + " but got " + event.getEventType());
+        }
+        return type.cast(event);
+    }
+
+    /**
+     * Decode one event from all remaining bytes of the buffer.
+     */
+    public DomainEvent decode(ByteBuffer source) {
+        try {
+            byte version = source.get();
+            if (version != FORMAT_VERSION) {
+                throw new EventCodecException("Unsupported event format version: " + version);
+            }
+            int typeId = (int) WireFormat.readVarint(source);
+            return EventSchemas.forTypeId(typeId).read(source);
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new EventCodecException("Truncated or corrupt event", e);
+        }
+    }
+}
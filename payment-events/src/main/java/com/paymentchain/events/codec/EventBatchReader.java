@@ -0,0 +1,120 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily reads the length-prefixed frames written by {@link EventBatchWriter}.
+ *
+ * Each call to {@link #next()} decodes a single frame, so a batch is never
+ * materialized as a whole. Reading from a channel goes through a buffer that
+ * only grows when a single frame is larger than it.
+ *
+ * The channel is not closed by the reader. Not thread-safe.
+ *
+ * @author benas
+ */
+public final class EventBatchReader implements Iterator<DomainEvent> {
+
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES;
+    private static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private final BinaryEventCodec codec;
+    private final ReadableByteChannel channel;
+    private ByteBuffer buffer;
+    private DomainEvent next;
+    private boolean endOfInput;
+
+    /**
+     * Read frames from the buffer's position up to its limit.
+     */
+    public EventBatchReader(BinaryEventCodec codec, ByteBuffer buffer) {
+        this.codec = codec;
+        this.channel = null;
+        this.buffer = buffer;
+        this.endOfInput = true;
+    }
+
+    /**
+     * Read frames from a channel through a buffer of the given initial size.
+     */
+    public EventBatchReader(BinaryEventCodec codec, ReadableByteChannel channel, int bufferSize) {
+        this.codec = codec;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize).flip();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readFrame();
+        }
+        return next != null;
+    }
+
+    @Override
+    public DomainEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DomainEvent event = next;
+        next = null;
+        return event;
+    }
+
+    private DomainEvent readFrame() {
+        if (!fill(FRAME_HEADER_SIZE)) {
+            if (buffer.hasRemaining()) {
+                throw new EventCodecException("Truncated event batch: incomplete frame header");
+            }
+            return null;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length <= 0 || length > MAX_FRAME_SIZE) {
+            throw new EventCodecException("Invalid frame length: " + length);
+        }
+        if (!fill(FRAME_HEADER_SIZE + length)) {
+            throw new EventCodecException("Truncated event batch: frame of " + length + " bytes");
+        }
+        int start = buffer.position() + FRAME_HEADER_SIZE;
+        DomainEvent event = codec.decode(buffer.slice(start, length));
+        buffer.position(start + length);
+        return event;
+    }
+
+    /**
+     * Make sure at least {@code needed} bytes are readable, reading from the channel if needed.
+     *
+     * @return false if the input ends first
+     */
+    private boolean fill(int needed) {
+        while (buffer.remaining() < needed) {
+            if (endOfInput) {
+                return false;
+            }
+            if (buffer.capacity() < needed) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            try {
+                if (channel.read(buffer) < 0) {
+                    endOfInput = true;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read event batch", e);
+            } finally {
+                buffer.flip();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a sequence of events as length-prefixed frames: a big-endian int32
+ * size followed by the {@link BinaryEventCodec} bytes of one event.
+ *
+ * Events are encoded straight into a reusable buffer. Writing to a channel
+ * flushes the buffer whenever it fills up, so memory stays constant however
+ * large the batch is; writing to a plain buffer fails once it is full.
+ *
+ * The channel is not closed by the writer. Not thread-safe.
+ *
+ * @author benas
+ */
+public final class EventBatchWriter implements Closeable {
+
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES;
+
+    private final BinaryEventCodec codec;
+    private final ByteBuffer buffer;
+    private final WritableByteChannel channel;
+    private long eventCount;
+
+    /**
+     * Write frames into the given buffer, starting at its position.
+     */
+    public EventBatchWriter(BinaryEventCodec codec, ByteBuffer buffer) {
+        this(codec, buffer, null);
+    }
+
+    /**
+     * Write frames to a channel through a buffer of the given size, which bounds the largest event.
+     */
+    public EventBatchWriter(BinaryEventCodec codec, WritableByteChannel channel, int bufferSize) {
+        this(codec, ByteBuffer.allocateDirect(bufferSize), channel);
+    }
+
+    private EventBatchWriter(BinaryEventCodec codec, ByteBuffer buffer, WritableByteChannel channel) {
+        this.codec = codec;
+        this.buffer = buffer;
+        this.channel = channel;
+    }
+
+    /**
+     * Append one event as a frame.
+     *
+     * @throws EventCodecException if the event cannot be encoded or does not fit in the buffer;
+     *                             the batch is left as it was before the call
+     * @throws UncheckedIOException if flushing to the channel fails
+     */
+    public EventBatchWriter write(DomainEvent event) {
+        if (!tryWrite(event)) {
+            if (channel == null) {
+                throw new EventCodecException("Batch buffer is full after " + eventCount + " events");
+            }
+            flush();
+            if (!tryWrite(event)) {
+                throw new EventCodecException("Event does not fit in a " + buffer.capacity() + " byte batch buffer");
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append all events as frames.
+     */
+    public EventBatchWriter writeAll(Iterable<? extends DomainEvent> events) {
+        for (DomainEvent event : events) {
+            write(event);
+        }
+        return this;
+    }
+
+    private boolean tryWrite(DomainEvent event) {
+        int frameStart = buffer.position();
+        if (buffer.remaining() <= FRAME_HEADER_SIZE) {
+            return false;
+        }
+        try {
+            buffer.position(frameStart + FRAME_HEADER_SIZE);
+            codec.encode(event, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(frameStart);
+            return false;
+        } catch (RuntimeException e) {
+            // Drop the partial frame, or its zero header would cut the batch short
+            buffer.position(frameStart);
+            throw e;
+        }
+        buffer.putInt(frameStart, buffer.position() - frameStart - FRAME_HEADER_SIZE);
+        eventCount++;
+        return true;
+    }
+
+    /**
+     * Write buffered frames to the channel. No-op when writing to a plain buffer.
+     */
+    public void flush() {
+        if (channel == null) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write event batch", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Number of events written so far.
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Flush buffered frames. The channel itself is left open.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,17 @@
+package com.paymentchain.events.codec;
+
+/**
+ * Thrown when an event cannot be encoded to or decoded from its binary form.
+ *
+ * @author benas
+ */
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message) {
+        super(message);
+    }
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,457 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.paymentchain.events.codec.WireFormat.LENGTH_DELIMITED;
+import static com.paymentchain.events.codec.WireFormat.VARINT;
+
+/**
+ * Binary layout of one event class: its stable type id and its tagged fields.
+ *
+ * Tags 1-15 are reserved for the {@link DomainEvent} header, event fields start
+ * at {@link #FIRST_FIELD_TAG}. Tags must never be reused or renumbered; new
+ * fields get new tags, removed fields simply stop being written. Null values
+ * (and {@code false} booleans) are not written at all.
+ *
+ * @author benas
+ */
+final class EventSchema<E extends DomainEvent> {
+
+    static final int FIRST_FIELD_TAG = 16;
+
+    private static final int EVENT_ID_UUID_TAG = 1;
+    private static final int EVENT_ID_STRING_TAG = 2;
+    private static final int OCCURRED_ON_TAG = 3;
+
+    private final int typeId;
+    private final Class<E> type;
+    private final Supplier<E> factory;
+    @SuppressWarnings("unchecked")
+    private Field<E, ?>[] fields = new Field[0];
+    @SuppressWarnings("unchecked")
+    private Field<E, ?>[] fieldsByTag = new Field[FIRST_FIELD_TAG];
+
+    private EventSchema(int typeId, Class<E> type, Supplier<E> factory) {
+        this.typeId = typeId;
+        this.type = type;
+        this.factory = factory;
+    }
+
+    static <E extends DomainEvent> EventSchema<E> of(int typeId, Class<E> type, Supplier<E> factory) {
+        return new EventSchema<>(typeId, type, factory);
+    }
+
+    int getTypeId() {
+        return typeId;
+    }
+
+    Class<E> getType() {
+        return type;
+    }
+
+    EventSchema<E> int64(int tag, Function<E, Long> getter, BiConsumer<E, Long> setter) {
+        return field(tag, INT64, getter, setter);
+    }
+
+    EventSchema<E> string(int tag, Function<E, String> getter, BiConsumer<E, String> setter) {
+        return field(tag, STRING, getter, setter);
+    }
+
+    /**
+     * String field whose well-known values are written as a varint code.
+     */
+    EventSchema<E> dictionary(int tag, Dictionary dictionary, Function<E, String> getter, BiConsumer<E, String> setter) {
+        return field(tag, dictionary, getter, setter);
+    }
+
+    EventSchema<E> bool(int tag, Function<E, Boolean> getter, BiConsumer<E, Boolean> setter) {
+        return field(tag, BOOLEAN, getter, setter);
+    }
+
+    EventSchema<E> decimal(int tag, Function<E, BigDecimal> getter, BiConsumer<E, BigDecimal> setter) {
+        return field(tag, DECIMAL, getter, setter);
+    }
+
+    EventSchema<E> dateTime(int tag, Function<E, LocalDateTime> getter, BiConsumer<E, LocalDateTime> setter) {
+        return field(tag, LOCAL_DATE_TIME, getter, setter);
+    }
+
+    private <V> EventSchema<E> field(int tag, ValueCodec<V> codec, Function<E, V> getter, BiConsumer<E, V> setter) {
+        if (tag < FIRST_FIELD_TAG) {
+            throw new IllegalArgumentException("Tags below " + FIRST_FIELD_TAG + " are reserved: " + tag);
+        }
+        if (tag >= fieldsByTag.length) {
+            fieldsByTag = Arrays.copyOf(fieldsByTag, tag + 1);
+        }
+        if (fieldsByTag[tag] != null) {
+            throw new IllegalArgumentException("Duplicate tag " + tag + " in " + type.getSimpleName());
+        }
+        Field<E, V> field = new Field<>(tag, codec, getter, setter);
+        fieldsByTag[tag] = field;
+        fields = Arrays.copyOf(fields, fields.length + 1);
+        fields[fields.length - 1] = field;
+        return this;
+    }
+
+    void write(DomainEvent event, ByteBuffer out) {
+        E typed = type.cast(event);
+        String eventId = event.getEventId();
+        if (!writeUuid(out, eventId)) {
+            WireFormat.writeKey(out, EVENT_ID_STRING_TAG, LENGTH_DELIMITED);
+            WireFormat.writeString(out, eventId);
+        }
+        INSTANT.write(out, OCCURRED_ON_TAG, event.getOccurredOn());
+        for (Field<E, ?> field : fields) {
+            field.write(typed, out);
+        }
+    }
+
+    /**
+     * Read fields until the end of the buffer, skipping unknown tags.
+     */
+    E read(ByteBuffer in) {
+        E event = factory.get();
+        String eventId = null;
+        Instant occurredOn = null;
+        while (in.hasRemaining()) {
+            long key = WireFormat.readVarint(in);
+            int tag = WireFormat.tagOf(key);
+            int wireType = WireFormat.wireTypeOf(key);
+            if (tag == EVENT_ID_UUID_TAG && wireType == LENGTH_DELIMITED) {
+                eventId = readUuid(in);
+            } else if (tag == EVENT_ID_STRING_TAG && wireType == LENGTH_DELIMITED) {
+                eventId = WireFormat.readString(in);
+            } else if (tag == OCCURRED_ON_TAG && wireType == LENGTH_DELIMITED) {
+                occurredOn = INSTANT.read(in, wireType);
+            } else if (tag < fieldsByTag.length && fieldsByTag[tag] != null) {
+                fieldsByTag[tag].read(event, wireType, in);
+            } else {
+                WireFormat.skipField(in, wireType);
+            }
+        }
+        event.restoreIdentity(eventId, occurredOn);
+        return event;
+    }
+
+    /**
+     * Write a canonical lower-case UUID as 16 raw bytes.
+     *
+     * @return false if the id is not in canonical form and must be written as a string
+     */
+    private static boolean writeUuid(ByteBuffer out, String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        int digits = 0;
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+                continue;
+            }
+            int nibble;
+            if (c >= '0' && c <= '9') {
+                nibble = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                nibble = c - 'a' + 10;
+            } else {
+                return false;
+            }
+            if (digits < 16) {
+                mostSigBits = (mostSigBits << 4) | nibble;
+            } else {
+                leastSigBits = (leastSigBits << 4) | nibble;
+            }
+            digits++;
+        }
+        WireFormat.writeKey(out, EVENT_ID_UUID_TAG, LENGTH_DELIMITED);
+        WireFormat.writeVarint(out, 16);
+        out.putLong(mostSigBits);
+        out.putLong(leastSigBits);
+        return true;
+    }
+
+    private static String readUuid(ByteBuffer in) {
+        int length = WireFormat.readLength(in);
+        if (length != 16) {
+            throw new EventCodecException("Invalid event id length: " + length);
+        }
+        return new UUID(in.getLong(), in.getLong()).toString();
+    }
+
+    private static final class Field<E, V> {
+        private final int tag;
+        private final ValueCodec<V> codec;
+        private final Function<E, V> getter;
+        private final BiConsumer<E, V> setter;
+
+        private Field(int tag, ValueCodec<V> codec, Function<E, V> getter, BiConsumer<E, V> setter) {
+            this.tag = tag;
+            this.codec = codec;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        void write(E event, ByteBuffer out) {
+            V value = getter.apply(event);
+            if (value != null) {
+                codec.write(out, tag, value);
+            }
+        }
+
+        void read(E event, int wireType, ByteBuffer in) {
+            if (codec.accepts(wireType)) {
+                V value = codec.read(in, wireType);
+                if (value != null) {
+                    setter.accept(event, value);
+                }
+            } else {
+                // Field changed representation in a newer schema; leave it unset
+                WireFormat.skipField(in, wireType);
+            }
+        }
+    }
+
+    /**
+     * Encoding of one Java value type.
+     */
+    interface ValueCodec<V> {
+
+        void write(ByteBuffer out, int tag, V value);
+
+        boolean accepts(int wireType);
+
+        /**
+         * Read a value, or return null to leave the field unset (e.g. a value from a newer schema).
+         */
+        V read(ByteBuffer in, int wireType);
+    }
+
+    private static final ValueCodec<Long> INT64 = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, Long value) {
+            WireFormat.writeKey(out, tag, VARINT);
+            WireFormat.writeVarint(out, WireFormat.encodeZigZag(value));
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == VARINT;
+        }
+
+        @Override
+        public Long read(ByteBuffer in, int wireType) {
+            return WireFormat.decodeZigZag(WireFormat.readVarint(in));
+        }
+    };
+
+    private static final ValueCodec<String> STRING = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, String value) {
+            WireFormat.writeKey(out, tag, LENGTH_DELIMITED);
+            WireFormat.writeString(out, value);
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == LENGTH_DELIMITED;
+        }
+
+        @Override
+        public String read(ByteBuffer in, int wireType) {
+            return WireFormat.readString(in);
+        }
+    };
+
+    private static final ValueCodec<Boolean> BOOLEAN = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, Boolean value) {
+            if (value) {
+                WireFormat.writeKey(out, tag, VARINT);
+                WireFormat.writeVarint(out, 1);
+            }
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == VARINT;
+        }
+
+        @Override
+        public Boolean read(ByteBuffer in, int wireType) {
+            return WireFormat.readVarint(in) != 0;
+        }
+    };
+
+    /**
+     * Amounts with scale 0-3 that fit in 61 bits are a single varint,
+     * {@code zigzag(unscaled) << 2 | scale} (so 100.50 is 10050 minor units at scale 2);
+     * anything else is length-delimited {@code zigzag(scale)} plus the unscaled two's complement bytes.
+     */
+    private static final ValueCodec<BigDecimal> DECIMAL = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, BigDecimal value) {
+            BigInteger unscaled = value.unscaledValue();
+            int scale = value.scale();
+            if (scale >= 0 && scale <= 3 && unscaled.bitLength() <= 61) {
+                WireFormat.writeKey(out, tag, VARINT);
+                WireFormat.writeVarint(out, (WireFormat.encodeZigZag(unscaled.longValue()) << 2) | scale);
+            } else {
+                long encodedScale = WireFormat.encodeZigZag(scale);
+                byte[] bytes = unscaled.toByteArray();
+                WireFormat.writeKey(out, tag, LENGTH_DELIMITED);
+                WireFormat.writeVarint(out, WireFormat.varintSize(encodedScale) + bytes.length);
+                WireFormat.writeVarint(out, encodedScale);
+                out.put(bytes);
+            }
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == VARINT || wireType == LENGTH_DELIMITED;
+        }
+
+        @Override
+        public BigDecimal read(ByteBuffer in, int wireType) {
+            if (wireType == VARINT) {
+                long encoded = WireFormat.readVarint(in);
+                return BigDecimal.valueOf(WireFormat.decodeZigZag(encoded >>> 2), (int) (encoded & 3));
+            }
+            int length = WireFormat.readLength(in);
+            int end = in.position() + length;
+            long scale = WireFormat.decodeZigZag(WireFormat.readVarint(in));
+            // Checked before allocating: a corrupt scale varint can run past the field
+            int magnitudeLength = end - in.position();
+            if (magnitudeLength <= 0 || scale != (int) scale) {
+                throw new EventCodecException("Malformed decimal field");
+            }
+            byte[] bytes = new byte[magnitudeLength];
+            in.get(bytes);
+            return new BigDecimal(new BigInteger(bytes), (int) scale);
+        }
+    };
+
+    /**
+     * Epoch seconds (zigzag) followed by nanos, length-delimited so more precision parts can be appended.
+     */
+    private static final ValueCodec<Instant> INSTANT = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, Instant value) {
+            writeEpoch(out, tag, value.getEpochSecond(), value.getNano());
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == LENGTH_DELIMITED;
+        }
+
+        @Override
+        public Instant read(ByteBuffer in, int wireType) {
+            int end = WireFormat.readLength(in) + in.position();
+            long seconds = WireFormat.decodeZigZag(WireFormat.readVarint(in));
+            int nanos = (int) WireFormat.readVarint(in);
+            WireFormat.checkFieldEnd(in, end);
+            in.position(end);
+            return Instant.ofEpochSecond(seconds, nanos);
+        }
+    };
+
+    /**
+     * Local date-times are written as their UTC epoch seconds and nanos.
+     */
+    private static final ValueCodec<LocalDateTime> LOCAL_DATE_TIME = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer out, int tag, LocalDateTime value) {
+            writeEpoch(out, tag, value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == LENGTH_DELIMITED;
+        }
+
+        @Override
+        public LocalDateTime read(ByteBuffer in, int wireType) {
+            int end = WireFormat.readLength(in) + in.position();
+            long seconds = WireFormat.decodeZigZag(WireFormat.readVarint(in));
+            int nanos = (int) WireFormat.readVarint(in);
+            WireFormat.checkFieldEnd(in, end);
+            in.position(end);
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    };
+
+    private static void writeEpoch(ByteBuffer out, int tag, long epochSecond, int nanos) {
+        long seconds = WireFormat.encodeZigZag(epochSecond);
+        WireFormat.writeKey(out, tag, LENGTH_DELIMITED);
+        WireFormat.writeVarint(out, WireFormat.varintSize(seconds) + WireFormat.varintSize(nanos));
+        WireFormat.writeVarint(out, seconds);
+        WireFormat.writeVarint(out, nanos);
+    }
+
+    /**
+     * Append-only list of well-known values for a string field.
+     *
+     * Known values are written as a varint code, anything else as a plain string,
+     * so producers never fail on new values. Codes must never be reordered.
+     * Codes appended by a newer schema are read as null, leaving the field unset.
+     */
+    static final class Dictionary implements ValueCodec<String> {
+
+        private final String[] values;
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        Dictionary(String... values) {
+            this.values = values.clone();
+            for (int i = 0; i < values.length; i++) {
+                codes.put(values[i], i);
+            }
+        }
+
+        @Override
+        public void write(ByteBuffer out, int tag, String value) {
+            Integer code = codes.get(value);
+            if (code != null) {
+                WireFormat.writeKey(out, tag, VARINT);
+                WireFormat.writeVarint(out, code);
+            } else {
+                STRING.write(out, tag, value);
+            }
+        }
+
+        @Override
+        public boolean accepts(int wireType) {
+            return wireType == VARINT || wireType == LENGTH_DELIMITED;
+        }
+
+        @Override
+        public String read(ByteBuffer in, int wireType) {
+            if (wireType == LENGTH_DELIMITED) {
+                return WireFormat.readString(in);
+            }
+            long code = WireFormat.readVarint(in);
+            if (code < 0 || code >= values.length) {
+                return null;
+            }
+            return values[(int) code];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.codec.EventSchema.Dictionary;
+import com.paymentchain.events.customer.CustomerCreatedEvent;
+import com.paymentchain.events.customer.CustomerDeletedEvent;
+import com.paymentchain.events.customer.CustomerUpdatedEvent;
+import com.paymentchain.events.notification.NotificationRequestedEvent;
+import com.paymentchain.events.notification.NotificationSentEvent;
+import com.paymentchain.events.payment.PaymentAuthorizedEvent;
+import com.paymentchain.events.payment.PaymentProcessedEvent;
+import com.paymentchain.events.payment.PaymentRejectedEvent;
+import com.paymentchain.events.transaction.TransactionCancelledEvent;
+import com.paymentchain.events.transaction.TransactionCreatedEvent;
+import com.paymentchain.events.transaction.TransactionFailedEvent;
+import com.paymentchain.events.transaction.TransactionSettledEvent;
+
+/**
+ * Registry of the binary schemas of all events in com.paymentchain.events.
+ *
+ * Type ids and field tags are part of the wire format: never change or reuse
+ * them. New events get the next type id, new fields the next tag of their schema.
+ *
+ * @author benas
+ */
+final class EventSchemas {
+
+    private static final Dictionary CURRENCIES = new Dictionary("EUR", "USD", "GBP");
+    private static final Dictionary STATUSES = new Dictionary(
+            "PENDING", "PROCESSING", "COMPLETED", "PROCESSED", "AUTHORIZED",
+            "SETTLED", "FAILED", "REJECTED", "CANCELLED");
+    private static final Dictionary CHANNELS = new Dictionary("WEB", "MOBILE", "API", "BRANCH", "ATM");
+    private static final Dictionary NOTIFICATION_TYPES = new Dictionary("EMAIL", "SMS", "PUSH");
+    private static final Dictionary PRIORITIES = new Dictionary("HIGH", "MEDIUM", "LOW");
+
+    private static final EventSchema<?>[] BY_TYPE_ID = {
+            null,
+            EventSchema.of(1, CustomerCreatedEvent.class, CustomerCreatedEvent::new)
+                    .int64(16, CustomerCreatedEvent::getCustomerId, CustomerCreatedEvent::setCustomerId)
+                    .string(17, CustomerCreatedEvent::getName, CustomerCreatedEvent::setName)
+                    .string(18, CustomerCreatedEvent::getSurname, CustomerCreatedEvent::setSurname)
+                    .string(19, CustomerCreatedEvent::getEmail, CustomerCreatedEvent::setEmail)
+                    .string(20, CustomerCreatedEvent::getPhone, CustomerCreatedEvent::setPhone)
+                    .string(21, CustomerCreatedEvent::getIban, CustomerCreatedEvent::setIban),
+            EventSchema.of(2, CustomerUpdatedEvent.class, CustomerUpdatedEvent::new)
+                    .int64(16, CustomerUpdatedEvent::getCustomerId, CustomerUpdatedEvent::setCustomerId)
+                    .string(17, CustomerUpdatedEvent::getName, CustomerUpdatedEvent::setName)
+                    .string(18, CustomerUpdatedEvent::getSurname, CustomerUpdatedEvent::setSurname)
+                    .string(19, CustomerUpdatedEvent::getEmail, CustomerUpdatedEvent::setEmail)
+                    .string(20, CustomerUpdatedEvent::getPhone, CustomerUpdatedEvent::setPhone),
+            EventSchema.of(3, CustomerDeletedEvent.class, CustomerDeletedEvent::new)
+                    .int64(16, CustomerDeletedEvent::getCustomerId, CustomerDeletedEvent::setCustomerId)
+                    .string(17, CustomerDeletedEvent::getDeletedBy, CustomerDeletedEvent::setDeletedBy)
+                    .string(18, CustomerDeletedEvent::getReason, CustomerDeletedEvent::setReason),
+            EventSchema.of(4, NotificationRequestedEvent.class, NotificationRequestedEvent::new)
+                    .string(16, NotificationRequestedEvent::getRecipient, NotificationRequestedEvent::setRecipient)
+                    .dictionary(17, NOTIFICATION_TYPES,
+                            NotificationRequestedEvent::getNotificationType, NotificationRequestedEvent::setNotificationType)
+                    .string(18, NotificationRequestedEvent::getSubject, NotificationRequestedEvent::setSubject)
+                    .string(19, NotificationRequestedEvent::getMessage, NotificationRequestedEvent::setMessage)
+                    .string(20, NotificationRequestedEvent::getTemplate, NotificationRequestedEvent::setTemplate)
+                    .dictionary(21, PRIORITIES,
+                            NotificationRequestedEvent::getPriority, NotificationRequestedEvent::setPriority),
+            EventSchema.of(5, NotificationSentEvent.class, NotificationSentEvent::new)
+                    .string(16, NotificationSentEvent::getNotificationId, NotificationSentEvent::setNotificationId)
+                    .string(17, NotificationSentEvent::getRecipient, NotificationSentEvent::setRecipient)
+                    .dictionary(18, NOTIFICATION_TYPES,
+                            NotificationSentEvent::getNotificationType, NotificationSentEvent::setNotificationType)
+                    .bool(19, NotificationSentEvent::isSuccess, NotificationSentEvent::setSuccess)
+                    .string(20, NotificationSentEvent::getProvider, NotificationSentEvent::setProvider)
+                    .dateTime(21, NotificationSentEvent::getSentAt, NotificationSentEvent::setSentAt),
+            EventSchema.of(6, PaymentAuthorizedEvent.class, PaymentAuthorizedEvent::new)
+                    .int64(16, PaymentAuthorizedEvent::getPaymentId, PaymentAuthorizedEvent::setPaymentId)
+                    .string(17, PaymentAuthorizedEvent::getAuthorizationCode, PaymentAuthorizedEvent::setAuthorizationCode)
+                    .decimal(18, PaymentAuthorizedEvent::getAuthorizedAmount, PaymentAuthorizedEvent::setAuthorizedAmount)
+                    .dictionary(19, CURRENCIES, PaymentAuthorizedEvent::getCurrency, PaymentAuthorizedEvent::setCurrency)
+                    .dateTime(20, PaymentAuthorizedEvent::getAuthorizedAt, PaymentAuthorizedEvent::setAuthorizedAt)
+                    .string(21, PaymentAuthorizedEvent::getGateway, PaymentAuthorizedEvent::setGateway),
+            EventSchema.of(7, PaymentProcessedEvent.class, PaymentProcessedEvent::new)
+                    .int64(16, PaymentProcessedEvent::getPaymentId, PaymentProcessedEvent::setPaymentId)
+                    .string(17, PaymentProcessedEvent::getPaymentReference, PaymentProcessedEvent::setPaymentReference)
+                    .decimal(18, PaymentProcessedEvent::getAmount, PaymentProcessedEvent::setAmount)
+                    .dictionary(19, CURRENCIES, PaymentProcessedEvent::getCurrency, PaymentProcessedEvent::setCurrency)
+                    .string(20, PaymentProcessedEvent::getPaymentMethod, PaymentProcessedEvent::setPaymentMethod)
+                    .dictionary(21, STATUSES, PaymentProcessedEvent::getStatus, PaymentProcessedEvent::setStatus),
+            EventSchema.of(8, PaymentRejectedEvent.class, PaymentRejectedEvent::new)
+                    .int64(16, PaymentRejectedEvent::getPaymentId, PaymentRejectedEvent::setPaymentId)
+                    .string(17, PaymentRejectedEvent::getPaymentReference, PaymentRejectedEvent::setPaymentReference)
+                    .decimal(18, PaymentRejectedEvent::getAmount, PaymentRejectedEvent::setAmount)
+                    .dictionary(19, CURRENCIES, PaymentRejectedEvent::getCurrency, PaymentRejectedEvent::setCurrency)
+                    .string(20, PaymentRejectedEvent::getRejectionReason, PaymentRejectedEvent::setRejectionReason)
+                    .string(21, PaymentRejectedEvent::getRejectionCode, PaymentRejectedEvent::setRejectionCode)
+                    .string(22, PaymentRejectedEvent::getGateway, PaymentRejectedEvent::setGateway),
+            EventSchema.of(9, TransactionCreatedEvent.class, TransactionCreatedEvent::new)
+                    .int64(16, TransactionCreatedEvent::getTransactionId, TransactionCreatedEvent::setTransactionId)
+                    .string(17, TransactionCreatedEvent::getReference, TransactionCreatedEvent::setReference)
+                    .string(18, TransactionCreatedEvent::getAccountIban, TransactionCreatedEvent::setAccountIban)
+                    .decimal(19, TransactionCreatedEvent::getAmount, TransactionCreatedEvent::setAmount)
+                    .dictionary(20, CURRENCIES, TransactionCreatedEvent::getCurrency, TransactionCreatedEvent::setCurrency)
+                    .dictionary(21, STATUSES, TransactionCreatedEvent::getStatus, TransactionCreatedEvent::setStatus)
+                    .dictionary(22, CHANNELS, TransactionCreatedEvent::getChannel, TransactionCreatedEvent::setChannel)
+                    .string(23, TransactionCreatedEvent::getDescription, TransactionCreatedEvent::setDescription)
+                    .dateTime(24, TransactionCreatedEvent::getTransactionDate, TransactionCreatedEvent::setTransactionDate),
+            EventSchema.of(10, TransactionSettledEvent.class, TransactionSettledEvent::new)
+                    .int64(16, TransactionSettledEvent::getTransactionId, TransactionSettledEvent::setTransactionId)
+                    .string(17, TransactionSettledEvent::getReference, TransactionSettledEvent::setReference)
+                    .decimal(18, TransactionSettledEvent::getAmount, TransactionSettledEvent::setAmount)
+                    .dictionary(19, CURRENCIES, TransactionSettledEvent::getCurrency, TransactionSettledEvent::setCurrency)
+                    .dateTime(20, TransactionSettledEvent::getSettledAt, TransactionSettledEvent::setSettledAt)
+                    .string(21, TransactionSettledEvent::getSettlementMethod, TransactionSettledEvent::setSettlementMethod),
+            EventSchema.of(11, TransactionFailedEvent.class, TransactionFailedEvent::new)
+                    .int64(16, TransactionFailedEvent::getTransactionId, TransactionFailedEvent::setTransactionId)
+                    .string(17, TransactionFailedEvent::getReference, TransactionFailedEvent::setReference)
+                    .decimal(18, TransactionFailedEvent::getAmount, TransactionFailedEvent::setAmount)
+                    .string(19, TransactionFailedEvent::getFailureReason, TransactionFailedEvent::setFailureReason)
+                    .string(20, TransactionFailedEvent::getErrorCode, TransactionFailedEvent::setErrorCode),
+            EventSchema.of(12, TransactionCancelledEvent.class, TransactionCancelledEvent::new)
+                    .int64(16, TransactionCancelledEvent::getTransactionId, TransactionCancelledEvent::setTransactionId)
+                    .string(17, TransactionCancelledEvent::getReference, TransactionCancelledEvent::setReference)
+                    .string(18, TransactionCancelledEvent::getCancelledBy, TransactionCancelledEvent::setCancelledBy)
+                    .string(19, TransactionCancelledEvent::getCancellationReason, TransactionCancelledEvent::setCancellationReason)
+    };
+
+    private static final ClassValue<EventSchema<?>> BY_TYPE = new ClassValue<>() {
+        @Override
+        protected EventSchema<?> computeValue(Class<?> type) {
+            for (EventSchema<?> schema : BY_TYPE_ID) {
+                if (schema != null && schema.getType() == type) {
+                    return schema;
+                }
+            }
+            return null;
+        }
+    };
+
+    private EventSchemas() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static EventSchema<?> forType(Class<? extends DomainEvent> type) {
+        EventSchema<?> schema = BY_TYPE.get(type);
+        if (schema == null) {
+            throw new EventCodecException("No binary schema for event type: " + type.getName());
+        }
+        return schema;
+    }
+
+    static EventSchema<?> forTypeId(int typeId) {
+        if (typeId <= 0 || typeId >= BY_TYPE_ID.length) {
+            throw new EventCodecException("Unknown event type id: " + typeId);
+        }
+        return BY_TYPE_ID[typeId];
+    }
+}
@@ -0,0 +1,141 @@
+package com.paymentchain.events.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Low-level encoding primitives of the binary event format.
+ *
+ * Every field is written as a varint key {@code (tag << 3) | wireType} followed by
+ * its value, as in Protocol Buffers: {@link #VARINT} values are LEB128 varints and
+ * {@link #LENGTH_DELIMITED} values are a varint length followed by that many bytes.
+ * Knowing the wire type is enough to skip a field, which is what keeps old
+ * readers compatible with new fields.
+ *
+ * @author benas
+ */
+final class WireFormat {
+
+    static final int VARINT = 0;
+    static final int LENGTH_DELIMITED = 2;
+
+    private static final int TAG_SHIFT = 3;
+    private static final int WIRE_TYPE_MASK = (1 << TAG_SHIFT) - 1;
+
+    private WireFormat() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static void writeKey(ByteBuffer out, int tag, int wireType) {
+        writeVarint(out, ((long) tag << TAG_SHIFT) | wireType);
+    }
+
+    static int tagOf(long key) {
+        return (int) (key >>> TAG_SHIFT);
+    }
+
+    static int wireTypeOf(long key) {
+        return (int) (key & WIRE_TYPE_MASK);
+    }
+
+    static void writeVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readVarint(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new EventCodecException("Malformed varint");
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static long encodeZigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long decodeZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Write a length-delimited UTF-8 string, encoding ASCII without an intermediate array.
+     */
+    static void writeString(ByteBuffer out, String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && value.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == length) {
+            writeVarint(out, length);
+            for (int j = 0; j < length; j++) {
+                out.put((byte) value.charAt(j));
+            }
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(out, bytes.length);
+            out.put(bytes);
+        }
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = readLength(in);
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readLength(ByteBuffer in) {
+        long length = readVarint(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new EventCodecException("Invalid field length: " + length);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Check that reading a length-delimited field did not run past its end.
+     */
+    static void checkFieldEnd(ByteBuffer in, int end) {
+        if (in.position() > end) {
+            throw new EventCodecException("Field overruns its length");
+        }
+    }
+
+    /**
+     * Skip the value of a field this reader does not know.
+     */
+    static void skipField(ByteBuffer in, int wireType) {
+        switch (wireType) {
+            case VARINT -> readVarint(in);
+            case LENGTH_DELIMITED -> {
+                int length = readLength(in);
+                in.position(in.position() + length);
+            }
+            default -> throw new EventCodecException("Unsupported wire type: " + wireType);
+        }
+    }
+}
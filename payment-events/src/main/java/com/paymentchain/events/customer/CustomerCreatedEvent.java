@@ -1,6 +1,7 @@
 package com.paymentchain.events.customer;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 /**
  * Event published when a customer is created.
@@ -21,7 +22,7 @@ public class CustomerCreatedEvent extends DomainEvent {
     }
 
     private CustomerCreatedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.customerId = builder.customerId;
         this.name = builder.name;
         this.surname = builder.surname;
@@ -35,6 +36,7 @@ public class CustomerCreatedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long customerId;
         private String name;
         private String surname;
@@ -72,6 +74,14 @@ public class CustomerCreatedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public CustomerCreatedEvent build() {
             return new CustomerCreatedEvent(this);
         }
@@ -1,6 +1,7 @@
 package com.paymentchain.events.customer;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 /**
  * Event published when a customer is deleted (soft delete).
@@ -18,7 +19,7 @@ public class CustomerDeletedEvent extends DomainEvent {
     }
 
     private CustomerDeletedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.customerId = builder.customerId;
         this.deletedBy = builder.deletedBy;
         this.reason = builder.reason;
@@ -29,6 +30,7 @@ public class CustomerDeletedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long customerId;
         private String deletedBy;
         private String reason;
@@ -48,6 +50,14 @@ public class CustomerDeletedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public CustomerDeletedEvent build() {
             return new CustomerDeletedEvent(this);
         }
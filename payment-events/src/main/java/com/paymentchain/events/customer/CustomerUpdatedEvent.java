@@ -1,6 +1,7 @@
 package com.paymentchain.events.customer;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 /**
  * Event published when customer information is updated.
@@ -20,7 +21,7 @@ public class CustomerUpdatedEvent extends DomainEvent {
     }
 
     private CustomerUpdatedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.customerId = builder.customerId;
         this.name = builder.name;
         this.surname = builder.surname;
@@ -33,6 +34,7 @@ public class CustomerUpdatedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long customerId;
         private String name;
         private String surname;
@@ -64,6 +66,14 @@ public class CustomerUpdatedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public CustomerUpdatedEvent build() {
             return new CustomerUpdatedEvent(this);
         }
@@ -1,6 +1,7 @@
 package com.paymentchain.events.notification;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 /**
  * Event published when a notification needs to be sent.
@@ -21,7 +22,7 @@ public class NotificationRequestedEvent extends DomainEvent {
     }
 
     private NotificationRequestedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.recipient = builder.recipient;
         this.notificationType = builder.notificationType;
         this.subject = builder.subject;
@@ -35,6 +36,7 @@ public class NotificationRequestedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private String recipient;
         private String notificationType;
         private String subject;
@@ -72,6 +74,14 @@ public class NotificationRequestedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public NotificationRequestedEvent build() {
             return new NotificationRequestedEvent(this);
         }
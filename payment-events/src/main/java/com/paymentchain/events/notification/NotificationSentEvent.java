@@ -2,6 +2,7 @@ package com.paymentchain.events.notification;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.time.LocalDateTime;
 
@@ -26,7 +27,7 @@ public class NotificationSentEvent extends DomainEvent {
     }
 
     private NotificationSentEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.notificationId = builder.notificationId;
         this.recipient = builder.recipient;
         this.notificationType = builder.notificationType;
@@ -40,6 +41,7 @@ public class NotificationSentEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private String notificationId;
         private String recipient;
         private String notificationType;
@@ -77,6 +79,14 @@ public class NotificationSentEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public NotificationSentEvent build() {
             return new NotificationSentEvent(this);
         }
@@ -2,6 +2,7 @@ package com.paymentchain.events.payment;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,7 +29,7 @@ public class PaymentAuthorizedEvent extends DomainEvent {
     }
 
     private PaymentAuthorizedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.paymentId = builder.paymentId;
         this.authorizationCode = builder.authorizationCode;
         this.authorizedAmount = builder.authorizedAmount;
@@ -42,6 +43,7 @@ public class PaymentAuthorizedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long paymentId;
         private String authorizationCode;
         private BigDecimal authorizedAmount;
@@ -79,6 +81,14 @@ public class PaymentAuthorizedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public PaymentAuthorizedEvent build() {
             return new PaymentAuthorizedEvent(this);
         }
@@ -1,6 +1,7 @@
 package com.paymentchain.events.payment;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 
@@ -23,7 +24,7 @@ public class PaymentProcessedEvent extends DomainEvent {
     }
 
     private PaymentProcessedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.paymentId = builder.paymentId;
         this.paymentReference = builder.paymentReference;
         this.amount = builder.amount;
@@ -37,6 +38,7 @@ public class PaymentProcessedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long paymentId;
         private String paymentReference;
         private BigDecimal amount;
@@ -74,6 +76,14 @@ public class PaymentProcessedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public PaymentProcessedEvent build() {
             return new PaymentProcessedEvent(this);
         }
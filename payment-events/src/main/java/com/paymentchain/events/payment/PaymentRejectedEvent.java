@@ -1,6 +1,7 @@
 package com.paymentchain.events.payment;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 
@@ -24,7 +25,7 @@ public class PaymentRejectedEvent extends DomainEvent {
     }
 
     private PaymentRejectedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.paymentId = builder.paymentId;
         this.paymentReference = builder.paymentReference;
         this.amount = builder.amount;
@@ -39,6 +40,7 @@ public class PaymentRejectedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long paymentId;
         private String paymentReference;
         private BigDecimal amount;
@@ -82,6 +84,14 @@ public class PaymentRejectedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public PaymentRejectedEvent build() {
             return new PaymentRejectedEvent(this);
         }
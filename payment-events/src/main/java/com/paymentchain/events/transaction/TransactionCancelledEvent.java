@@ -1,6 +1,7 @@
 package com.paymentchain.events.transaction;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 /**
  * Event published when a transaction is cancelled.
@@ -19,7 +20,7 @@ public class TransactionCancelledEvent extends DomainEvent {
     }
 
     private TransactionCancelledEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.transactionId = builder.transactionId;
         this.reference = builder.reference;
         this.cancelledBy = builder.cancelledBy;
@@ -31,6 +32,7 @@ public class TransactionCancelledEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long transactionId;
         private String reference;
         private String cancelledBy;
@@ -56,6 +58,14 @@ public class TransactionCancelledEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public TransactionCancelledEvent build() {
             return new TransactionCancelledEvent(this);
         }
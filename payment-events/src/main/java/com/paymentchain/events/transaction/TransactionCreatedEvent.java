@@ -2,6 +2,7 @@ package com.paymentchain.events.transaction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -37,7 +38,7 @@ public class TransactionCreatedEvent extends DomainEvent {
 
     // Constructor builder-style
     private TransactionCreatedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.transactionId = builder.transactionId;
         this.reference = builder.reference;
         this.accountIban = builder.accountIban;
@@ -55,6 +56,7 @@ public class TransactionCreatedEvent extends DomainEvent {
 
     // Builder Pattern
     public static class Builder {
+        private EventIdentity identity;
         private Long transactionId;
         private String reference;
         private String accountIban;
@@ -110,6 +112,14 @@ public class TransactionCreatedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public TransactionCreatedEvent build() {
             return new TransactionCreatedEvent(this);
         }
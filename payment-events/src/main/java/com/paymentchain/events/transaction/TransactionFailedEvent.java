@@ -1,6 +1,7 @@
 package com.paymentchain.events.transaction;
 
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 
@@ -22,7 +23,7 @@ public class TransactionFailedEvent extends DomainEvent {
     }
 
     private TransactionFailedEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.transactionId = builder.transactionId;
         this.reference = builder.reference;
         this.amount = builder.amount;
@@ -35,6 +36,7 @@ public class TransactionFailedEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long transactionId;
         private String reference;
         private BigDecimal amount;
@@ -66,6 +68,14 @@ public class TransactionFailedEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public TransactionFailedEvent build() {
             return new TransactionFailedEvent(this);
         }
@@ -2,6 +2,7 @@ package com.paymentchain.events.transaction;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.domain.model.event.EventIdentity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,7 +29,7 @@ public class TransactionSettledEvent extends DomainEvent {
     }
 
     private TransactionSettledEvent(Builder builder) {
-        super();
+        super(builder.identity);
         this.transactionId = builder.transactionId;
         this.reference = builder.reference;
         this.amount = builder.amount;
@@ -42,6 +43,7 @@ public class TransactionSettledEvent extends DomainEvent {
     }
 
     public static class Builder {
+        private EventIdentity identity;
         private Long transactionId;
         private String reference;
         private BigDecimal amount;
@@ -79,6 +81,14 @@ public class TransactionSettledEvent extends DomainEvent {
             return this;
         }
 
+        /**
+         * Clock and id generator for the event, instead of the defaults.
+         */
+        public Builder identity(EventIdentity identity) {
+            this.identity = identity;
+            return this;
+        }
+
         public TransactionSettledEvent build() {
             return new TransactionSettledEvent(this);
         }
@@ -146,4 +146,24 @@ class TransactionEventsTest {
         assertThat(event.getOccurredOn()).isNotNull();
         assertThat(event.getOccurredOn()).isBeforeOrEqualTo(java.time.Instant.now());
     }
+
+    @Test
+    void shouldKeepEventIdAndTimestampOnRoundTrip() throws Exception {
+        // Arrange
+        TransactionCreatedEvent event = TransactionCreatedEvent.builder()
+            .transactionId(1L)
+            .reference("TX001")
+            .amount(new BigDecimal("100"))
+            .currency("EUR")
+            .build();
+        String json = objectMapper.writeValueAsString(event);
+
+        // Act
+        TransactionCreatedEvent restored = objectMapper.readValue(json, TransactionCreatedEvent.class);
+
+        // Assert
+        assertThat(restored.getEventId()).isEqualTo(event.getEventId());
+        assertThat(restored.getOccurredOn()).isEqualTo(event.getOccurredOn());
+        assertThat(restored.getEventType()).isEqualTo("TransactionCreatedEvent");
+    }
 }
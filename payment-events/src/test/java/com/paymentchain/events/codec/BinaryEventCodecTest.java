@@ -0,0 +1,260 @@
+package com.paymentchain.events.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.customer.CustomerCreatedEvent;
+import com.paymentchain.events.customer.CustomerDeletedEvent;
+import com.paymentchain.events.customer.CustomerUpdatedEvent;
+import com.paymentchain.events.notification.NotificationRequestedEvent;
+import com.paymentchain.events.notification.NotificationSentEvent;
+import com.paymentchain.events.payment.PaymentAuthorizedEvent;
+import com.paymentchain.events.payment.PaymentProcessedEvent;
+import com.paymentchain.events.payment.PaymentRejectedEvent;
+import com.paymentchain.events.transaction.TransactionCancelledEvent;
+import com.paymentchain.events.transaction.TransactionCreatedEvent;
+import com.paymentchain.events.transaction.TransactionFailedEvent;
+import com.paymentchain.events.transaction.TransactionSettledEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the binary event codec.
+ *
+ * @author benas
+ */
+class BinaryEventCodecTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2024, 11, 18, 10, 30, 15, 123_000_000);
+
+    private BinaryEventCodec codec;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        codec = new BinaryEventCodec();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    static Stream<DomainEvent> allEvents() {
+        return Stream.of(
+            CustomerCreatedEvent.builder()
+                .customerId(1L).name("José").surname("Núñez").email("jose@example.com")
+                .phone("+34600123456").iban("ES9121000418450200051332").build(),
+            CustomerUpdatedEvent.builder()
+                .customerId(1L).name("Jane").surname("Doe").email("jane@example.com").phone("+34600654321").build(),
+            CustomerDeletedEvent.builder()
+                .customerId(1L).deletedBy("admin").reason("Customer request").build(),
+            NotificationRequestedEvent.builder()
+                .recipient("john@example.com").notificationType("EMAIL").subject("Confirmation")
+                .message("Your transaction was successful").template("tx-confirmation").priority("HIGH").build(),
+            NotificationSentEvent.builder()
+                .notificationId("NOTIF-001").recipient("john@example.com").notificationType("WHATSAPP")
+                .success(true).provider("SendGrid").sentAt(DATE).build(),
+            PaymentAuthorizedEvent.builder()
+                .paymentId(1L).authorizationCode("AUTH-123456").authorizedAmount(new BigDecimal("100.50"))
+                .currency("EUR").authorizedAt(DATE).gateway("STRIPE").build(),
+            PaymentProcessedEvent.builder()
+                .paymentId(1L).paymentReference("PAY-001").amount(new BigDecimal("100"))
+                .currency("USD").paymentMethod("CARD").status("PROCESSED").build(),
+            PaymentRejectedEvent.builder()
+                .paymentId(1L).paymentReference("PAY-001").amount(new BigDecimal("-0.015"))
+                .currency("CHF").rejectionReason("Insufficient funds").rejectionCode("51").gateway("STRIPE").build(),
+            TransactionCreatedEvent.builder()
+                .transactionId(1L).reference("TX001").accountIban("ES9121000418450200051332")
+                .amount(new BigDecimal("100.50")).currency("EUR").status("PENDING").channel("WEB")
+                .description("Test transaction").transactionDate(DATE).build(),
+            TransactionSettledEvent.builder()
+                .transactionId(1L).reference("TX001").amount(new BigDecimal("12345678901234567890.123456"))
+                .currency("GBP").settledAt(DATE).settlementMethod("SEPA").build(),
+            TransactionFailedEvent.builder()
+                .transactionId(Long.MAX_VALUE).reference("TX001").amount(new BigDecimal("100.50"))
+                .failureReason("Account blocked").errorCode("TX-403").build(),
+            TransactionCancelledEvent.builder()
+                .transactionId(-1L).reference("TX001").cancelledBy("john.doe").cancellationReason("Duplicate").build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("allEvents")
+    void shouldRoundTripToEquivalentJson(DomainEvent event) throws Exception {
+        // Arrange
+        byte[] bytes = codec.encode(event);
+
+        // Act
+        DomainEvent decoded = codec.decode(bytes);
+
+        // Assert
+        assertThat(decoded).isInstanceOf(event.getClass());
+        assertThat(objectMapper.writeValueAsString(decoded)).isEqualTo(objectMapper.writeValueAsString(event));
+    }
+
+    @ParameterizedTest
+    @MethodSource("allEvents")
+    void shouldBeSmallerThanJson(DomainEvent event) throws Exception {
+        // Act
+        byte[] binary = codec.encode(event);
+        byte[] json = objectMapper.writeValueAsBytes(event);
+
+        // Assert
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void shouldKeepNonUuidEventId() {
+        // Arrange
+        TransactionCancelledEvent event = new TransactionCancelledEvent();
+        event.setReference("TX001");
+        event.restoreIdentity("legacy-id-42", null);
+
+        // Act
+        TransactionCancelledEvent decoded = codec.decode(codec.encode(event), TransactionCancelledEvent.class);
+
+        // Assert
+        assertThat(decoded.getEventId()).isEqualTo("legacy-id-42");
+    }
+
+    @Test
+    void shouldLeaveMissingFieldsNull() {
+        // Arrange
+        TransactionCreatedEvent event = TransactionCreatedEvent.builder().transactionId(1L).build();
+
+        // Act
+        TransactionCreatedEvent decoded = codec.decode(codec.encode(event), TransactionCreatedEvent.class);
+
+        // Assert
+        assertThat(decoded.getTransactionId()).isEqualTo(1L);
+        assertThat(decoded.getAmount()).isNull();
+        assertThat(decoded.getTransactionDate()).isNull();
+    }
+
+    @Test
+    void shouldSkipUnknownFieldsFromNewerProducers() {
+        // Arrange: append a varint field (tag 99) and a length-delimited field (tag 100)
+        byte[] encoded = codec.encode(TransactionCancelledEvent.builder().reference("TX001").build());
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 32);
+        buffer.put(encoded);
+        WireFormat.writeKey(buffer, 99, WireFormat.VARINT);
+        WireFormat.writeVarint(buffer, 123456);
+        WireFormat.writeKey(buffer, 100, WireFormat.LENGTH_DELIMITED);
+        WireFormat.writeString(buffer, "future");
+        byte[] extended = Arrays.copyOf(buffer.array(), buffer.position());
+
+        // Act
+        TransactionCancelledEvent decoded = codec.decode(extended, TransactionCancelledEvent.class);
+
+        // Assert
+        assertThat(decoded.getReference()).isEqualTo("TX001");
+    }
+
+    @Test
+    void shouldRejectUnsupportedFormatVersion() {
+        // Arrange
+        byte[] bytes = codec.encode(TransactionCancelledEvent.builder().build());
+        bytes[0] = 99;
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    void shouldRejectTruncatedEvent() {
+        // Arrange
+        byte[] bytes = codec.encode(TransactionCancelledEvent.builder().reference("TX001").build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length - 2)))
+            .isInstanceOf(EventCodecException.class);
+    }
+
+    @Test
+    void shouldRejectDecimalWhoseScaleOverrunsField() {
+        // Arrange: a one-byte decimal field holding a two-byte scale varint
+        byte[] bytes = withRawField(PaymentProcessedEvent.builder().build(), 18, 1, 0x80, 0x01);
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("decimal");
+    }
+
+    @Test
+    void shouldRejectDecimalWithoutMagnitude() {
+        // Arrange: the field ends right after the scale
+        byte[] bytes = withRawField(PaymentProcessedEvent.builder().build(), 18, 1, 0x04);
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("decimal");
+    }
+
+    @Test
+    void shouldRejectDecimalLongerThanInput() {
+        // Arrange: declared length far beyond the remaining bytes
+        byte[] bytes = withRawField(PaymentProcessedEvent.builder().build(), 18, Integer.MAX_VALUE, 0x04, 0x01);
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("length");
+    }
+
+    @Test
+    void shouldLeaveFieldUnsetForDictionaryCodeAppendedByNewerSchema() {
+        // Arrange: a newer writer appended WEBHOOK to the notification types, then wrote the subject
+        EventSchema.Dictionary newerTypes = new EventSchema.Dictionary("EMAIL", "SMS", "PUSH", "WEBHOOK");
+        byte[] encoded = codec.encode(NotificationRequestedEvent.builder()
+            .recipient("john@example.com").priority("HIGH").build());
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 64);
+        buffer.put(encoded);
+        newerTypes.write(buffer, 17, "WEBHOOK");
+        WireFormat.writeKey(buffer, 18, WireFormat.LENGTH_DELIMITED);
+        WireFormat.writeString(buffer, "Confirmation");
+        byte[] bytes = Arrays.copyOf(buffer.array(), buffer.position());
+
+        // Act
+        NotificationRequestedEvent decoded = codec.decode(bytes, NotificationRequestedEvent.class);
+
+        // Assert
+        assertThat(decoded.getNotificationType()).isNull();
+        assertThat(decoded.getRecipient()).isEqualTo("john@example.com");
+        assertThat(decoded.getPriority()).isEqualTo("HIGH");
+        assertThat(decoded.getSubject()).isEqualTo("Confirmation");
+    }
+
+    @Test
+    void shouldRejectWrongExpectedType() {
+        // Arrange
+        byte[] bytes = codec.encode(TransactionCancelledEvent.builder().build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> codec.decode(bytes, TransactionCreatedEvent.class))
+            .isInstanceOf(EventCodecException.class);
+    }
+
+    private byte[] withRawField(DomainEvent event, int tag, int length, int... content) {
+        byte[] encoded = codec.encode(event);
+        ByteBuffer buffer = ByteBuffer.allocate(encoded.length + 16 + content.length);
+        buffer.put(encoded);
+        WireFormat.writeKey(buffer, tag, WireFormat.LENGTH_DELIMITED);
+        WireFormat.writeVarint(buffer, length);
+        for (int b : content) {
+            buffer.put((byte) b);
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
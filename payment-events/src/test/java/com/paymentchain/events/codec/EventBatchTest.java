@@ -0,0 +1,153 @@
+package com.paymentchain.events.codec;
+
+import com.paymentchain.domain.model.event.DomainEvent;
+import com.paymentchain.events.transaction.TransactionCreatedEvent;
+import com.paymentchain.events.transaction.TransactionSettledEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for length-prefixed event batches.
+ *
+ * @author benas
+ */
+class EventBatchTest {
+
+    private BinaryEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new BinaryEventCodec();
+    }
+
+    @Test
+    void shouldRoundTripBatchThroughBuffer() {
+        // Arrange
+        List<DomainEvent> events = events(100);
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+        // Act
+        new EventBatchWriter(codec, buffer).writeAll(events);
+        buffer.flip();
+        List<DomainEvent> read = readAll(new EventBatchReader(codec, buffer));
+
+        // Assert
+        assertThat(read).hasSize(100);
+        assertThat(eventIds(read)).containsExactlyElementsOf(eventIds(events));
+    }
+
+    @Test
+    void shouldRoundTripBatchThroughChannelsWithSmallBuffers() {
+        // Arrange: buffers much smaller than the batch force many flushes and refills
+        List<DomainEvent> events = events(1000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        EventBatchWriter writer = new EventBatchWriter(codec, Channels.newChannel(out), 512);
+        writer.writeAll(events).close();
+        EventBatchReader reader = new EventBatchReader(codec,
+            Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), 16);
+        List<DomainEvent> read = readAll(reader);
+
+        // Assert
+        assertThat(writer.getEventCount()).isEqualTo(1000);
+        assertThat(read).hasSize(1000);
+        assertThat(eventIds(read)).containsExactlyElementsOf(eventIds(events));
+        assertThat(((TransactionSettledEvent) read.get(1)).getAmount()).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void shouldRejectEventWhenBufferIsFull() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        EventBatchWriter writer = new EventBatchWriter(codec, buffer);
+        writer.write(events(1).get(0));
+        int position = buffer.position();
+
+        // Act & Assert
+        assertThatThrownBy(() -> writer.write(events(1).get(0)))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("full");
+        assertThat(buffer.position()).isEqualTo(position);
+    }
+
+    @Test
+    void shouldKeepBatchReadableWhenAnEventFailsToEncode() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        EventBatchWriter writer = new EventBatchWriter(codec, buffer);
+        List<DomainEvent> good = events(2);
+        DomainEvent unregistered = new DomainEvent() { };
+
+        // Act
+        writer.write(good.get(0));
+        int position = buffer.position();
+        assertThatThrownBy(() -> writer.write(unregistered))
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("No binary schema");
+        assertThat(buffer.position()).isEqualTo(position);
+        writer.write(good.get(1));
+        buffer.flip();
+        List<DomainEvent> read = readAll(new EventBatchReader(codec, buffer));
+
+        // Assert: the failed event leaves no empty frame behind
+        assertThat(writer.getEventCount()).isEqualTo(2);
+        assertThat(eventIds(read)).containsExactlyElementsOf(eventIds(good));
+    }
+
+    @Test
+    void shouldRejectTruncatedBatch() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        new EventBatchWriter(codec, buffer).writeAll(events(2));
+        buffer.flip();
+        buffer.limit(buffer.limit() - 3);
+        EventBatchReader reader = new EventBatchReader(codec, buffer);
+
+        // Act
+        reader.next();
+
+        // Assert
+        assertThatThrownBy(reader::hasNext)
+            .isInstanceOf(EventCodecException.class)
+            .hasMessageContaining("Truncated");
+    }
+
+    private static List<DomainEvent> events(int count) {
+        List<DomainEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                events.add(TransactionCreatedEvent.builder()
+                    .transactionId((long) i).reference("TX" + i)
+                    .amount(BigDecimal.valueOf(i, 2)).currency("EUR").status("PENDING")
+                    .build());
+            } else {
+                events.add(TransactionSettledEvent.builder()
+                    .transactionId((long) i).reference("TX" + i)
+                    .amount(new BigDecimal("1.00")).currency("EUR").settlementMethod("SEPA")
+                    .build());
+            }
+        }
+        return events;
+    }
+
+    private static List<DomainEvent> readAll(EventBatchReader reader) {
+        List<DomainEvent> events = new ArrayList<>();
+        reader.forEachRemaining(events::add);
+        return events;
+    }
+
+    private static List<String> eventIds(List<DomainEvent> events) {
+        return events.stream().map(DomainEvent::getEventId).toList();
+    }
+}